@@ -0,0 +1,45 @@
+package com.codingshuttle.linkedin.api_gateway.controller;
+
+import com.codingshuttle.linkedin.api_gateway.dto.HomeDto;
+import com.codingshuttle.linkedin.api_gateway.service.HomeAggregationService;
+import com.codingshuttle.linkedin.api_gateway.service.JwtService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/api/v1/home")
+@RequiredArgsConstructor
+@Slf4j
+public class HomeController {
+
+    private final JwtService jwtService;
+    private final HomeAggregationService homeAggregationService;
+
+    @GetMapping
+    public Mono<ResponseEntity<HomeDto>> getHome(
+            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String tokenHeader) {
+        if (tokenHeader == null || !tokenHeader.startsWith("Bearer ")) {
+            log.error("Authorization token header not found!");
+            return Mono.just(ResponseEntity.status(HttpStatus.UNAUTHORIZED).build());
+        }
+
+        final String userId;
+        try {
+            userId = jwtService.getUserIdFromToken(tokenHeader.substring("Bearer ".length()));
+        } catch (Exception e) {
+            log.error("Invalid JWT token: {}", e.getMessage());
+            return Mono.just(ResponseEntity.status(HttpStatus.UNAUTHORIZED).build());
+        }
+
+        log.info("Received request to build home page for user: {}", userId);
+        return homeAggregationService.getHome(userId).map(ResponseEntity::ok);
+    }
+}
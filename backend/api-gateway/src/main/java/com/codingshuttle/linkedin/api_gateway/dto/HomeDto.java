@@ -0,0 +1,21 @@
+package com.codingshuttle.linkedin.api_gateway.dto;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.Map;
+
+@Data
+@Builder
+public class HomeDto {
+
+    private JsonNode posts;
+    private JsonNode notifications;
+    private JsonNode receivedRequests;
+    private JsonNode suggestedConnections;
+
+    // Section name -> reason, for sections that failed or timed out
+    private Map<String, String> errors;
+
+}
@@ -1,5 +1,7 @@
 package com.codingshuttle.linkedin.api_gateway.filters;
 
+import com.codingshuttle.linkedin.api_gateway.metrics.GatewayLatencyMetrics;
+import com.codingshuttle.linkedin.api_gateway.metrics.RequestTiming;
 import com.codingshuttle.linkedin.api_gateway.service.JwtService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cloud.gateway.filter.GatewayFilter;
@@ -13,10 +15,12 @@ import org.springframework.web.server.ServerWebExchange;
 public class AuthenticationFilter extends AbstractGatewayFilterFactory<AuthenticationFilter.Config> {
 
     private final JwtService jwtService;
+    private final GatewayLatencyMetrics latencyMetrics;
 
-    public AuthenticationFilter(JwtService jwtService) {
+    public AuthenticationFilter(JwtService jwtService, GatewayLatencyMetrics latencyMetrics) {
         super(Config.class);
         this.jwtService = jwtService;
+        this.latencyMetrics = latencyMetrics;
     }
 
     @Override
@@ -32,7 +36,7 @@ public class AuthenticationFilter extends AbstractGatewayFilterFactory<Authentic
 
             final String jwtToken = tokenHeader.split("Bearer ")[1];
             try {
-                final String userId = jwtService.getUserIdFromToken(jwtToken);
+                final String userId = verify(exchange, jwtToken);
 
                 ServerWebExchange serverWebExchange = exchange.mutate()
                         .request(r -> r.header("X-User-Id", userId))
@@ -47,6 +51,21 @@ public class AuthenticationFilter extends AbstractGatewayFilterFactory<Authentic
         };
     }
 
+    private String verify(ServerWebExchange exchange, String jwtToken) {
+        long start = System.nanoTime();
+        try {
+            return jwtService.getUserIdFromToken(jwtToken);
+        } finally {
+            // One measurement feeds both the timer and, when enabled, the Server-Timing header
+            long nanos = System.nanoTime() - start;
+            latencyMetrics.recordJwt(nanos);
+            RequestTiming timing = exchange.getAttribute(RequestTiming.ATTRIBUTE);
+            if (timing != null) {
+                timing.setJwtNanos(nanos);
+            }
+        }
+    }
+
     public static class Config {
         // Add any configuration properties here
     }
@@ -0,0 +1,86 @@
+package com.codingshuttle.linkedin.api_gateway.filters;
+
+import com.codingshuttle.linkedin.api_gateway.limiter.AimdLimiter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.SignalType;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Adaptive per-route concurrency limit. Requests over the current limit are shed immediately with 503
+ * instead of queueing behind a slow downstream service, e.g. {@code - ConcurrencyLimitFilter}.
+ */
+@Slf4j
+@Component
+public class ConcurrencyLimitFilter extends AbstractGatewayFilterFactory<ConcurrencyLimitFilter.Config> {
+
+    private final ConcurrentMap<String, AimdLimiter> limiters = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+
+    public ConcurrencyLimitFilter(MeterRegistry meterRegistry) {
+        super(Config.class);
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        return (exchange, chain) -> {
+            Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+            String routeId = route != null ? route.getId() : "default";
+            AimdLimiter limiter = limiters.computeIfAbsent(routeId, id -> createLimiter(id, config));
+
+            if (!limiter.tryAcquire()) {
+                log.warn("Shedding request to route {}: concurrency limit {} reached", routeId, limiter.getLimit());
+                meterRegistry.counter("gateway.concurrency.shed", "route", routeId).increment();
+                exchange.getResponse().setStatusCode(HttpStatus.SERVICE_UNAVAILABLE);
+                return exchange.getResponse().setComplete();
+            }
+
+            long start = System.nanoTime();
+            return chain.filter(exchange).doFinally(signal -> {
+                if (signal == SignalType.CANCEL) {
+                    limiter.releaseWithoutSample();
+                    return;
+                }
+                HttpStatusCode status = exchange.getResponse().getStatusCode();
+                boolean overloaded = signal == SignalType.ON_ERROR || (status != null && status.is5xxServerError());
+                limiter.release(System.nanoTime() - start, overloaded);
+            });
+        };
+    }
+
+    private AimdLimiter createLimiter(String routeId, Config config) {
+        AimdLimiter limiter = new AimdLimiter(config.getInitialLimit(), config.getMinLimit(), config.getMaxLimit(),
+                config.getLatencyThreshold().toNanos(), config.getBackoffRatio());
+        Gauge.builder("gateway.concurrency.limit", limiter, AimdLimiter::getLimit)
+                .tag("route", routeId)
+                .register(meterRegistry);
+        Gauge.builder("gateway.concurrency.inflight", limiter, AimdLimiter::getInFlight)
+                .tag("route", routeId)
+                .register(meterRegistry);
+        return limiter;
+    }
+
+    @Getter
+    @Setter
+    public static class Config {
+        private int initialLimit = 20;
+        private int minLimit = 1;
+        private int maxLimit = 200;
+        private Duration latencyThreshold = Duration.ofMillis(500);
+        private double backoffRatio = 0.9;
+    }
+}
@@ -0,0 +1,57 @@
+package com.codingshuttle.linkedin.api_gateway.filters;
+
+import com.codingshuttle.linkedin.api_gateway.metrics.GatewayLatencyMetrics;
+import com.codingshuttle.linkedin.api_gateway.metrics.RequestTiming;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * Records end-to-end gateway latency per route and optionally adds a {@code Server-Timing} header.
+ */
+@Component
+public class LatencyMetricsFilter implements GlobalFilter, Ordered {
+
+    private final GatewayLatencyMetrics latencyMetrics;
+    private final boolean serverTimingHeader;
+
+    public LatencyMetricsFilter(GatewayLatencyMetrics latencyMetrics,
+                                @Value("${gateway.metrics.server-timing-header:false}") boolean serverTimingHeader) {
+        this.latencyMetrics = latencyMetrics;
+        this.serverTimingHeader = serverTimingHeader;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        long start = System.nanoTime();
+        // Per-exchange timing state only exists for the Server-Timing header
+        if (serverTimingHeader) {
+            RequestTiming timing = new RequestTiming(start);
+            exchange.getAttributes().put(RequestTiming.ATTRIBUTE, timing);
+            exchange.getResponse().beforeCommit(() -> {
+                exchange.getResponse().getHeaders().add("Server-Timing", timing.toServerTimingHeader(System.nanoTime()));
+                return Mono.empty();
+            });
+        }
+
+        return chain.filter(exchange).doFinally(signal -> recordRoute(exchange, start));
+    }
+
+    private void recordRoute(ServerWebExchange exchange, long startNanos) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        if (route != null) {
+            latencyMetrics.recordRoute(route.getId(), System.nanoTime() - startNanos);
+        }
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+}
@@ -0,0 +1,85 @@
+package com.codingshuttle.linkedin.api_gateway.filters;
+
+import com.codingshuttle.linkedin.api_gateway.limiter.TokenBucket;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-user, per-route token bucket limiter. Must be listed after {@code AuthenticationFilter}
+ * so that the {@code X-User-Id} header is available, e.g. {@code - RateLimitFilter=20,10}.
+ */
+@Slf4j
+@Component
+public class RateLimitFilter extends AbstractGatewayFilterFactory<RateLimitFilter.Config> {
+
+    private final Cache<String, TokenBucket> buckets;
+
+    public RateLimitFilter(@Value("${gateway.rate-limit.max-buckets:100000}") long maxBuckets,
+                           @Value("${gateway.rate-limit.idle-timeout:10m}") Duration idleTimeout) {
+        super(Config.class);
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxBuckets)
+                .expireAfterAccess(idleTimeout)
+                .build();
+    }
+
+    @Override
+    public List<String> shortcutFieldOrder() {
+        return List.of("capacity", "refillPerSecond");
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        return (exchange, chain) -> {
+            Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+            String routeId = route != null ? route.getId() : "default";
+            String bucketKey = routeId + ":" + resolveClientKey(exchange);
+
+            TokenBucket bucket = buckets.get(bucketKey,
+                    key -> new TokenBucket(config.getCapacity(), config.getRefillPerSecond(), System.nanoTime()));
+            long waitNanos = bucket.tryConsume(System.nanoTime());
+            if (waitNanos == 0) {
+                return chain.filter(exchange);
+            }
+
+            long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+            log.warn("Rate limit exceeded for {}, retry after {}s", bucketKey, retryAfterSeconds);
+            exchange.getResponse().setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
+            exchange.getResponse().getHeaders().set(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+            return exchange.getResponse().setComplete();
+        };
+    }
+
+    private static String resolveClientKey(ServerWebExchange exchange) {
+        String userId = exchange.getRequest().getHeaders().getFirst("X-User-Id");
+        if (userId != null) {
+            return userId;
+        }
+        InetSocketAddress remoteAddress = exchange.getRequest().getRemoteAddress();
+        return remoteAddress != null ? remoteAddress.getHostString() : "anonymous";
+    }
+
+    @Getter
+    @Setter
+    public static class Config {
+        private long capacity = 20;
+        private double refillPerSecond = 10;
+    }
+}
@@ -0,0 +1,169 @@
+package com.codingshuttle.linkedin.api_gateway.filters;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.Setter;
+import org.reactivestreams.Publisher;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+import reactor.core.publisher.Sinks;
+
+import java.io.ByteArrayOutputStream;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Collapses concurrent identical GET requests into a single upstream call and replays the buffered
+ * response to every waiter. Opt-in per route via {@code - RequestCoalescingFilter}; list it after
+ * {@code AuthenticationFilter} so that requests are keyed by {@code X-User-Id}.
+ */
+@Component
+public class RequestCoalescingFilter extends AbstractGatewayFilterFactory<RequestCoalescingFilter.Config> {
+
+    private static final String METRIC_NAME = "gateway.coalescing.requests";
+
+    private final ConcurrentMap<String, Sinks.One<SharedResponse>> inFlight = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+
+    public RequestCoalescingFilter(MeterRegistry meterRegistry) {
+        super(Config.class);
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        return (exchange, chain) -> {
+            ServerHttpRequest request = exchange.getRequest();
+            if (!HttpMethod.GET.equals(request.getMethod())) {
+                return chain.filter(exchange);
+            }
+
+            Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+            String routeId = route != null ? route.getId() : "default";
+            String key = coalescingKey(routeId, request, config.isPerUser());
+
+            Sinks.One<SharedResponse> sink = Sinks.one();
+            Sinks.One<SharedResponse> leader = inFlight.putIfAbsent(key, sink);
+            if (leader != null) {
+                return leader.asMono().flatMap(shared -> {
+                    if (shared == SharedResponse.NOT_SHAREABLE) {
+                        record(routeId, "fallback");
+                        return chain.filter(exchange);
+                    }
+                    record(routeId, "coalesced");
+                    return writeShared(exchange.getResponse(), shared);
+                });
+            }
+
+            record(routeId, "leader");
+            CapturingResponse capturingResponse = new CapturingResponse(exchange.getResponse(), config.getMaxBodyBytes());
+            return chain.filter(exchange.mutate().response(capturingResponse).build())
+                    .doFinally(signal -> {
+                        inFlight.remove(key, sink);
+                        sink.tryEmitValue(signal == SignalType.ON_COMPLETE
+                                ? capturingResponse.toSharedResponse()
+                                : SharedResponse.NOT_SHAREABLE);
+                    });
+        };
+    }
+
+    private static String coalescingKey(String routeId, ServerHttpRequest request, boolean perUser) {
+        StringBuilder key = new StringBuilder(routeId).append('|').append(request.getURI().getRawPath());
+        String query = request.getURI().getRawQuery();
+        if (query != null) {
+            key.append('?').append(query);
+        }
+        if (perUser) {
+            key.append('|').append(request.getHeaders().getFirst("X-User-Id"));
+        }
+        return key.toString();
+    }
+
+    private static Mono<Void> writeShared(ServerHttpResponse response, SharedResponse shared) {
+        response.setStatusCode(shared.status());
+        response.getHeaders().putAll(shared.headers());
+        return response.writeWith(Mono.fromSupplier(() -> response.bufferFactory().wrap(shared.body())));
+    }
+
+    private void record(String routeId, String outcome) {
+        meterRegistry.counter(METRIC_NAME, "route", routeId, "outcome", outcome).increment();
+    }
+
+    private record SharedResponse(HttpStatusCode status, HttpHeaders headers, byte[] body) {
+        static final SharedResponse NOT_SHAREABLE = new SharedResponse(null, null, null);
+    }
+
+    /**
+     * Passes the upstream body through to the leader's client while keeping a copy of it,
+     * as long as it stays under the configured size cap.
+     */
+    private static class CapturingResponse extends ServerHttpResponseDecorator {
+
+        private final int maxBodyBytes;
+        private ByteArrayOutputStream body = new ByteArrayOutputStream();
+
+        CapturingResponse(ServerHttpResponse delegate, int maxBodyBytes) {
+            super(delegate);
+            this.maxBodyBytes = maxBodyBytes;
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            return super.writeWith(Flux.from(body).map(this::capture));
+        }
+
+        @Override
+        public Mono<Void> writeAndFlushWith(Publisher<? extends Publisher<? extends DataBuffer>> body) {
+            // Streaming responses are never shared
+            this.body = null;
+            return super.writeAndFlushWith(body);
+        }
+
+        private DataBuffer capture(DataBuffer buffer) {
+            if (body == null) {
+                return buffer;
+            }
+            int length = buffer.readableByteCount();
+            if (body.size() + length > maxBodyBytes) {
+                body = null;
+                return buffer;
+            }
+            byte[] bytes = new byte[length];
+            buffer.read(bytes);
+            DataBufferUtils.release(buffer);
+            body.write(bytes, 0, length);
+            return bufferFactory().wrap(bytes);
+        }
+
+        SharedResponse toSharedResponse() {
+            if (body == null || getStatusCode() == null) {
+                return SharedResponse.NOT_SHAREABLE;
+            }
+            HttpHeaders headers = new HttpHeaders();
+            headers.putAll(getHeaders());
+            headers.remove(HttpHeaders.TRANSFER_ENCODING);
+            return new SharedResponse(getStatusCode(), headers, body.toByteArray());
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class Config {
+        private boolean perUser = true;
+        private int maxBodyBytes = 256 * 1024;
+    }
+}
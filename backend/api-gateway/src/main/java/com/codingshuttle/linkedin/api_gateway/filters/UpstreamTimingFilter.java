@@ -0,0 +1,49 @@
+package com.codingshuttle.linkedin.api_gateway.filters;
+
+import com.codingshuttle.linkedin.api_gateway.metrics.GatewayLatencyMetrics;
+import com.codingshuttle.linkedin.api_gateway.metrics.RequestTiming;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+
+/**
+ * Runs right before the routing filter, after load balancing has picked an instance, and times the
+ * downstream call until its response headers arrive.
+ */
+@Component
+@RequiredArgsConstructor
+public class UpstreamTimingFilter implements GlobalFilter, Ordered {
+
+    private final GatewayLatencyMetrics latencyMetrics;
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        URI requestUrl = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_REQUEST_URL_ATTR);
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        if (requestUrl == null || route == null) {
+            return chain.filter(exchange);
+        }
+
+        long start = System.nanoTime();
+        // Only present when the Server-Timing header is enabled
+        RequestTiming timing = exchange.getAttribute(RequestTiming.ATTRIBUTE);
+        if (timing != null) {
+            timing.setUpstreamStartNanos(start);
+        }
+        return chain.filter(exchange).doFinally(signal ->
+                latencyMetrics.recordUpstream(route.getId(), requestUrl.getAuthority(), System.nanoTime() - start));
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.LOWEST_PRECEDENCE - 1;
+    }
+}
@@ -0,0 +1,76 @@
+package com.codingshuttle.linkedin.api_gateway.limiter;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Adaptive concurrency limit using additive-increase / multiplicative-decrease on observed latency.
+ * The limit grows by roughly one per round trip while responses stay under the latency threshold and
+ * is cut by {@code backoffRatio} (at most once per threshold window) when they don't.
+ */
+public class AimdLimiter {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyThresholdNanos;
+    private final double backoffRatio;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile double limit;
+    private long lastBackoffNanos;
+
+    public AimdLimiter(int initialLimit, int minLimit, int maxLimit, long latencyThresholdNanos, double backoffRatio) {
+        if (minLimit < 1 || maxLimit < minLimit || backoffRatio <= 0 || backoffRatio >= 1) {
+            throw new IllegalArgumentException("Invalid limiter configuration");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyThresholdNanos = latencyThresholdNanos;
+        this.backoffRatio = backoffRatio;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+        this.lastBackoffNanos = System.nanoTime() - latencyThresholdNanos;
+    }
+
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= (int) limit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    public void release(long latencyNanos, boolean overloaded) {
+        int inFlightBeforeRelease = inFlight.getAndDecrement();
+        synchronized (this) {
+            long now = System.nanoTime();
+            if (overloaded || latencyNanos > latencyThresholdNanos) {
+                if (now - lastBackoffNanos >= latencyThresholdNanos) {
+                    limit = Math.max(minLimit, limit * backoffRatio);
+                    lastBackoffNanos = now;
+                }
+            } else if (inFlightBeforeRelease * 2 >= limit) {
+                // Only probe upwards while the current limit is actually being used
+                limit = Math.min(maxLimit, limit + 1.0 / limit);
+            }
+        }
+    }
+
+    /**
+     * Frees the slot without adjusting the limit, for requests whose latency says nothing about the
+     * downstream service, e.g. when the client disconnected.
+     */
+    public void releaseWithoutSample() {
+        inFlight.decrementAndGet();
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+}
@@ -0,0 +1,43 @@
+package com.codingshuttle.linkedin.api_gateway.limiter;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket. The bucket state is kept as a single "theoretical arrival time"
+ * (GCRA formulation), so taking a token is one CAS on one {@link AtomicLong}.
+ */
+public class TokenBucket {
+
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+    private final AtomicLong theoreticalArrivalTime;
+
+    public TokenBucket(long capacity, double refillPerSecond, long nowNanos) {
+        if (capacity < 1 || refillPerSecond <= 0) {
+            throw new IllegalArgumentException("capacity must be >= 1 and refillPerSecond must be > 0");
+        }
+        this.emissionIntervalNanos = Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / refillPerSecond));
+        this.burstToleranceNanos = emissionIntervalNanos * capacity;
+        this.theoreticalArrivalTime = new AtomicLong(nowNanos);
+    }
+
+    /**
+     * Tries to take one token.
+     *
+     * @return 0 if a token was taken, otherwise the nanos to wait until one becomes available
+     */
+    public long tryConsume(long nowNanos) {
+        while (true) {
+            long tat = theoreticalArrivalTime.get();
+            long newTat = (tat - nowNanos > 0 ? tat : nowNanos) + emissionIntervalNanos;
+            long waitNanos = newTat - nowNanos - burstToleranceNanos;
+            if (waitNanos > 0) {
+                return waitNanos;
+            }
+            if (theoreticalArrivalTime.compareAndSet(tat, newTat)) {
+                return 0;
+            }
+        }
+    }
+}
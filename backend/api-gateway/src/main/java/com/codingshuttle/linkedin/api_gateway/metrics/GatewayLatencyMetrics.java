@@ -0,0 +1,63 @@
+package com.codingshuttle.linkedin.api_gateway.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency timers with p50/p99/p999 and a percentile histogram, registered once per route /
+ * downstream instance and looked up on each request.
+ */
+@Component
+public class GatewayLatencyMetrics {
+
+    private final MeterRegistry meterRegistry;
+
+    private final Timer jwtTimer;
+    private final ConcurrentMap<String, Timer> routeTimers = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, ConcurrentMap<String, Timer>> upstreamTimers = new ConcurrentHashMap<>();
+
+    public GatewayLatencyMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.jwtTimer = latencyTimer("gateway.jwt.verification").register(meterRegistry);
+    }
+
+    private static Timer.Builder latencyTimer(String name) {
+        return Timer.builder(name)
+                .publishPercentiles(0.5, 0.99, 0.999)
+                .publishPercentileHistogram();
+    }
+
+    public void recordJwt(long nanos) {
+        jwtTimer.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordRoute(String routeId, long nanos) {
+        Timer timer = routeTimers.get(routeId);
+        if (timer == null) {
+            timer = routeTimers.computeIfAbsent(routeId, id -> latencyTimer("gateway.route.latency")
+                    .tag("route", id)
+                    .register(meterRegistry));
+        }
+        timer.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordUpstream(String routeId, String instance, long nanos) {
+        ConcurrentMap<String, Timer> instanceTimers = upstreamTimers.get(routeId);
+        if (instanceTimers == null) {
+            instanceTimers = upstreamTimers.computeIfAbsent(routeId, id -> new ConcurrentHashMap<>());
+        }
+        Timer timer = instanceTimers.get(instance);
+        if (timer == null) {
+            timer = instanceTimers.computeIfAbsent(instance, i -> latencyTimer("gateway.upstream.latency")
+                    .tag("route", routeId)
+                    .tag("instance", i)
+                    .register(meterRegistry));
+        }
+        timer.record(nanos, TimeUnit.NANOSECONDS);
+    }
+}
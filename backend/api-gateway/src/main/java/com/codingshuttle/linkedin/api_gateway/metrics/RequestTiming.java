@@ -0,0 +1,40 @@
+package com.codingshuttle.linkedin.api_gateway.metrics;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-exchange timestamps shared between the latency filters, stored as an exchange attribute. Only
+ * created when the {@code Server-Timing} header is enabled.
+ */
+@Getter
+@Setter
+public class RequestTiming {
+
+    public static final String ATTRIBUTE = RequestTiming.class.getName();
+
+    private final long startNanos;
+    private long jwtNanos = -1;
+    private long upstreamStartNanos = -1;
+
+    public RequestTiming(long startNanos) {
+        this.startNanos = startNanos;
+    }
+
+    public String toServerTimingHeader(long nowNanos) {
+        StringBuilder header = new StringBuilder("gateway;dur=").append(toMillis(nowNanos - startNanos));
+        if (jwtNanos >= 0) {
+            header.append(", jwt;dur=").append(toMillis(jwtNanos));
+        }
+        if (upstreamStartNanos >= 0) {
+            header.append(", upstream;dur=").append(toMillis(nowNanos - upstreamStartNanos));
+        }
+        return header.toString();
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
@@ -0,0 +1,66 @@
+package com.codingshuttle.linkedin.api_gateway.service;
+
+import com.codingshuttle.linkedin.api_gateway.dto.HomeDto;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.NullNode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
+
+@Service
+@Slf4j
+public class HomeAggregationService {
+
+    private static final String POSTS_URI = "http://posts-service/posts/core/users/allPosts";
+    private static final String NOTIFICATIONS_URI = "http://notification-service/notification/core/users/allNotifications";
+    private static final String RECEIVED_REQUESTS_URI = "http://connections-service/connections/core/received-requests";
+    private static final String SUGGESTED_CONNECTIONS_URI = "http://connections-service/connections/core/suggested-connections";
+
+    private final WebClient webClient;
+    private final Duration timeout;
+
+    public HomeAggregationService(WebClient.Builder loadBalancedWebClientBuilder,
+                                  @Value("${home.aggregation.timeout:2s}") Duration timeout) {
+        this.webClient = loadBalancedWebClientBuilder.build();
+        this.timeout = timeout;
+    }
+
+    public Mono<HomeDto> getHome(String userId) {
+        Map<String, String> errors = new ConcurrentHashMap<>();
+        return Mono.zip(
+                        fetchSection("posts", POSTS_URI, userId, errors),
+                        fetchSection("notifications", NOTIFICATIONS_URI, userId, errors),
+                        fetchSection("receivedRequests", RECEIVED_REQUESTS_URI, userId, errors),
+                        fetchSection("suggestedConnections", SUGGESTED_CONNECTIONS_URI, userId, errors))
+                .map(sections -> HomeDto.builder()
+                        .posts(sections.getT1())
+                        .notifications(sections.getT2())
+                        .receivedRequests(sections.getT3())
+                        .suggestedConnections(sections.getT4())
+                        .errors(errors)
+                        .build());
+    }
+
+    private Mono<JsonNode> fetchSection(String section, String uri, String userId, Map<String, String> errors) {
+        return webClient.get()
+                .uri(uri)
+                .header("X-User-Id", userId)
+                .retrieve()
+                .bodyToMono(JsonNode.class)
+                .timeout(timeout)
+                .onErrorResume(e -> {
+                    String reason = e instanceof TimeoutException ? "Timed out after " + timeout.toMillis() + " ms" : e.getMessage();
+                    log.warn("Home section {} failed for user {}: {}", section, userId, reason);
+                    errors.put(section, String.valueOf(reason));
+                    return Mono.just(NullNode.getInstance());
+                })
+                .defaultIfEmpty(NullNode.getInstance());
+    }
+}
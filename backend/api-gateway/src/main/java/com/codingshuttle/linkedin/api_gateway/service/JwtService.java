@@ -1,30 +1,98 @@
 package com.codingshuttle.linkedin.api_gateway.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
 
 @Service
 public class JwtService {
 
-    @Value("${jwt.secret}")
-    private String jwtSecreteKey;
+    private final JwtParser jwtParser;
+    private final Cache<String, VerifiedToken> verifiedTokens;
 
-    private SecretKey generateSecreteKey() {
-        return Keys.hmacShaKeyFor(jwtSecreteKey.getBytes(StandardCharsets.UTF_8));
+    public JwtService(@Value("${jwt.secret}") String jwtSecreteKey,
+                      @Value("${jwt.cache.max-size:100000}") long maxCachedTokens,
+                      @Value("${jwt.cache.max-ttl:1h}") Duration maxTtl,
+                      MeterRegistry meterRegistry) {
+        // Key and parser are immutable and thread-safe, so build them once instead of per request
+        this.jwtParser = Jwts.parser()
+                .verifyWith(Keys.hmacShaKeyFor(jwtSecreteKey.getBytes(StandardCharsets.UTF_8)))
+                .build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(maxCachedTokens)
+                .expireAfter(new TokenExpiry(maxTtl))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokens, "jwt-verified-tokens");
     }
 
     public String getUserIdFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(generateSecreteKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-        return claims.getSubject(); // User ID stored as subject
+        return verifiedTokens.get(digest(token), key -> verify(token)).userId();
+    }
+
+    private VerifiedToken verify(String token) {
+        Claims claims = jwtParser.parseSignedClaims(token).getPayload();
+        Date expiration = claims.getExpiration();
+        return new VerifiedToken(claims.getSubject(), // User ID stored as subject
+                expiration != null ? expiration.getTime() : Long.MAX_VALUE);
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private record VerifiedToken(String userId, long expiresAtMillis) {
+    }
+
+    /**
+     * Evicts a cached token exactly at its {@code exp} claim, capped at the configured max TTL.
+     */
+    private static class TokenExpiry implements Expiry<String, VerifiedToken> {
+
+        private final long maxTtlNanos;
+
+        TokenExpiry(Duration maxTtl) {
+            this.maxTtlNanos = maxTtl.toNanos();
+        }
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken token, long currentTime) {
+            long remainingMillis = token.expiresAtMillis() - System.currentTimeMillis();
+            if (remainingMillis <= 0) {
+                return 0;
+            }
+            return Math.min(TimeUnit.MILLISECONDS.toNanos(remainingMillis), maxTtlNanos);
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken token, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken token, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
     }
 }
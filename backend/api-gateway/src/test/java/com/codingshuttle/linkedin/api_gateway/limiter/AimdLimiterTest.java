@@ -0,0 +1,108 @@
+package com.codingshuttle.linkedin.api_gateway.limiter;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AimdLimiterTest {
+
+    private static final int STUB_WORKERS = 4;
+    private static final long STUB_SERVICE_MILLIS = 20;
+    private static final int CLIENTS = 64;
+    private static final long LATENCY_THRESHOLD_MILLIS = 60;
+
+    @Test
+    void shedsExcessLoadWhenCapacityIsReached() {
+        AimdLimiter limiter = new AimdLimiter(2, 1, 10, TimeUnit.SECONDS.toNanos(1), 0.5);
+
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isFalse();
+
+        limiter.release(0, false);
+        assertThat(limiter.tryAcquire()).isTrue();
+    }
+
+    @Test
+    void backsOffOnSlowResponses() {
+        AimdLimiter limiter = new AimdLimiter(20, 1, 100, TimeUnit.MILLISECONDS.toNanos(10), 0.5);
+
+        limiter.tryAcquire();
+        limiter.release(TimeUnit.MILLISECONDS.toNanos(50), false);
+
+        assertThat(limiter.getLimit()).isEqualTo(10);
+    }
+
+    @Test
+    void releaseWithoutSampleFreesSlotAndKeepsLimit() {
+        AimdLimiter limiter = new AimdLimiter(1, 1, 10, TimeUnit.SECONDS.toNanos(1), 0.5);
+
+        // A fast release at full utilisation would raise the limit to 2
+        assertThat(limiter.tryAcquire()).isTrue();
+        limiter.releaseWithoutSample();
+
+        assertThat(limiter.getInFlight()).isZero();
+        assertThat(limiter.getLimit()).isEqualTo(1);
+        assertThat(limiter.tryAcquire()).isTrue();
+    }
+
+    /**
+     * Drives a deliberately slow stub (4 workers, 20 ms each) with 64 closed-loop clients. Without a
+     * limit every request would queue for roughly 64 / 4 * 20 ms = 320 ms; with the limiter the admitted
+     * requests stay close to the latency threshold and the rest are shed.
+     */
+    @Test
+    void keepsTailLatencyBoundedUnderOverload() throws Exception {
+        ExecutorService slowStub = Executors.newFixedThreadPool(STUB_WORKERS);
+        ExecutorService clients = Executors.newFixedThreadPool(CLIENTS);
+        AimdLimiter limiter = new AimdLimiter(STUB_WORKERS, 1, 100,
+                TimeUnit.MILLISECONDS.toNanos(LATENCY_THRESHOLD_MILLIS), 0.75);
+
+        List<Long> admittedLatencies = Collections.synchronizedList(new ArrayList<>());
+        AtomicInteger shed = new AtomicInteger();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+
+        List<Future<?>> running = new ArrayList<>();
+        for (int c = 0; c < CLIENTS; c++) {
+            running.add(clients.submit(() -> {
+                while (System.nanoTime() < deadline) {
+                    if (!limiter.tryAcquire()) {
+                        shed.incrementAndGet();
+                        Thread.sleep(1);
+                        continue;
+                    }
+                    long start = System.nanoTime();
+                    slowStub.submit(() -> {
+                        Thread.sleep(STUB_SERVICE_MILLIS);
+                        return null;
+                    }).get();
+                    long latency = System.nanoTime() - start;
+                    limiter.release(latency, false);
+                    admittedLatencies.add(latency);
+                }
+                return null;
+            }));
+        }
+        for (Future<?> client : running) {
+            client.get(30, TimeUnit.SECONDS);
+        }
+        clients.shutdown();
+        slowStub.shutdown();
+
+        List<Long> sorted = new ArrayList<>(admittedLatencies);
+        Collections.sort(sorted);
+        long p99Millis = TimeUnit.NANOSECONDS.toMillis(sorted.get((int) (sorted.size() * 0.99)));
+
+        assertThat(shed.get()).isPositive();
+        assertThat(p99Millis).isLessThan(4 * LATENCY_THRESHOLD_MILLIS);
+    }
+}
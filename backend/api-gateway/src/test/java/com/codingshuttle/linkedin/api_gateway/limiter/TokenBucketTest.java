@@ -0,0 +1,76 @@
+package com.codingshuttle.linkedin.api_gateway.limiter;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketTest {
+
+    private static final long NOW = 1_000_000_000L;
+
+    @Test
+    void allowsBurstUpToCapacityThenAsksToWaitOneInterval() {
+        TokenBucket bucket = new TokenBucket(5, 10, NOW);
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(bucket.tryConsume(NOW)).isZero();
+        }
+        assertThat(bucket.tryConsume(NOW)).isEqualTo(TimeUnit.MILLISECONDS.toNanos(100));
+    }
+
+    @Test
+    void refillsAtConfiguredRate() {
+        TokenBucket bucket = new TokenBucket(5, 10, NOW);
+        for (int i = 0; i < 5; i++) {
+            bucket.tryConsume(NOW);
+        }
+
+        long oneSecondLater = NOW + TimeUnit.SECONDS.toNanos(1);
+        int granted = 0;
+        while (bucket.tryConsume(oneSecondLater) == 0) {
+            granted++;
+        }
+        assertThat(granted).isEqualTo(5); // refill is capped at capacity
+    }
+
+    @Test
+    void staysAccurateUnderManyThreads() throws Exception {
+        int capacity = 1_000;
+        int threads = 32;
+        int attemptsPerThread = 5_000;
+        TokenBucket bucket = new TokenBucket(capacity, 1, NOW);
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> results = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                int granted = 0;
+                for (int i = 0; i < attemptsPerThread; i++) {
+                    if (bucket.tryConsume(NOW) == 0) {
+                        granted++;
+                    }
+                }
+                return granted;
+            }));
+        }
+        start.countDown();
+
+        int totalGranted = 0;
+        for (Future<Integer> result : results) {
+            totalGranted += result.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        assertThat(totalGranted).isEqualTo(capacity);
+    }
+}
@@ -0,0 +1,77 @@
+package com.codingshuttle.linkedin.api_gateway.service;
+
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request cost of resolving the user id of a JWT:
+ * <ul>
+ *     <li>{@code perRequestKeyAndParser}: what the gateway did before, a new key and parser for every request;</li>
+ *     <li>{@code sharedParser}: the prebuilt parser, i.e. a cache miss;</li>
+ *     <li>{@code cachedToken}: {@link JwtService} with the token already verified, i.e. a cache hit.</li>
+ * </ul>
+ * Run with {@code mvn -Pbenchmark test-compile exec:exec -Dbenchmark.include=JwtVerification}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtVerificationBenchmark {
+
+    private static final String SECRET = "kljahgkh-iahgashg-asfgadgh-ahasfh-adhafdh-adhadhadhkhasgkhaskgh";
+
+    private String token;
+    private JwtParser sharedParser;
+    private JwtService jwtService;
+
+    @Setup
+    public void setUp() {
+        SecretKey key = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        token = Jwts.builder()
+                .subject("42")
+                .claim("email", "user@example.com")
+                .issuedAt(new Date())
+                .expiration(new Date(System.currentTimeMillis() + TimeUnit.HOURS.toMillis(1)))
+                .signWith(key)
+                .compact();
+        sharedParser = Jwts.parser().verifyWith(key).build();
+        jwtService = new JwtService(SECRET, 100_000, Duration.ofHours(1), new SimpleMeterRegistry());
+        jwtService.getUserIdFromToken(token);
+    }
+
+    @Benchmark
+    public String perRequestKeyAndParser() {
+        SecretKey key = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        return Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload().getSubject();
+    }
+
+    @Benchmark
+    public String sharedParser() {
+        return sharedParser.parseSignedClaims(token).getPayload().getSubject();
+    }
+
+    @Benchmark
+    public String cachedToken() {
+        return jwtService.getUserIdFromToken(token);
+    }
+}
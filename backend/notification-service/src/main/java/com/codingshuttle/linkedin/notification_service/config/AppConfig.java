@@ -3,6 +3,8 @@ package com.codingshuttle.linkedin.notification_service.config;
 import org.modelmapper.ModelMapper;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.util.backoff.FixedBackOff;
 
 @Configuration
 public class AppConfig {
@@ -12,5 +14,12 @@ public class AppConfig {
         return new ModelMapper();
     }
 
+    // Picked up by the listener container factory. A failed record is retried a few times a second apart,
+    // then logged and skipped; with BatchListenerFailedException the rest of its batch is not skipped
+    @Bean
+    public DefaultErrorHandler kafkaErrorHandler() {
+        return new DefaultErrorHandler(new FixedBackOff(1_000L, 4));
+    }
+
 }
 
@@ -0,0 +1,36 @@
+package com.codingshuttle.linkedin.notification_service.config;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Moves {@code notification_seq} past the existing rows of a database that was created with
+ * {@code IDENTITY} ids, where {@code ddl-auto: update} creates the sequence starting at 1. Runs once the
+ * schema is up to date and before the Kafka listeners start; a sequence that is already ahead is left alone.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationSequenceInitializer {
+
+    private final JdbcTemplate jdbcTemplate;
+    // Only injected so that Hibernate has created the sequence before this runs
+    private final EntityManagerFactory entityManagerFactory;
+
+    @PostConstruct
+    public void alignSequence() {
+        // With is_called set, the next pooled block starts right after max(id)
+        List<Long> movedTo = jdbcTemplate.queryForList("""
+                SELECT setval('notification_seq', max(id)) FROM notification
+                HAVING max(id) > (SELECT last_value FROM notification_seq)""", Long.class);
+        if (!movedTo.isEmpty()) {
+            log.info("Moved notification_seq past existing notifications to {}", movedTo.getFirst());
+        }
+    }
+}
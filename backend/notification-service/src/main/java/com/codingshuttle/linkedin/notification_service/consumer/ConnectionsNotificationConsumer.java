@@ -2,12 +2,17 @@ package com.codingshuttle.linkedin.notification_service.consumer;
 
 import com.codingshuttle.linkedin.event.AcceptConnectionRequestEvent;
 import com.codingshuttle.linkedin.event.SendConnectionRequestEvent;
+import com.codingshuttle.linkedin.notification_service.entity.Notification;
 import com.codingshuttle.linkedin.notification_service.service.SendNotificationService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
+import static com.codingshuttle.linkedin.notification_service.consumer.PostNotificationConsumer.newNotification;
+
 @Service
 @Slf4j
 @RequiredArgsConstructor
@@ -17,18 +22,33 @@ public class ConnectionsNotificationConsumer {
     public static final String ACCEPT_CONNECTION_REQUEST_TOPIC = "accept-connection-request-topic";
 
     private final SendNotificationService sendNotificationService;
+    private final ConsumerMetrics consumerMetrics;
 
-    @KafkaListener(topics = SEND_CONNECTION_REQUEST_TOPIC)
-    public void sendConnectionRequestNotification(SendConnectionRequestEvent event) {
-        log.info("Received send connection request event: {}", event);
-        sendNotificationService.sendNotification(event.getReceiverId(),
-                "You have received a connection request from user: " + event.getSenderId());
+    @KafkaListener(topics = SEND_CONNECTION_REQUEST_TOPIC, batch = "true",
+            concurrency = "${notification.kafka.concurrency:3}")
+    public void sendConnectionRequestNotifications(List<SendConnectionRequestEvent> events) {
+        log.info("Received {} send connection request events", events.size());
+        consumerMetrics.recordBatch(SEND_CONNECTION_REQUEST_TOPIC, events.size(), () -> {
+            List<Notification> notifications = events.stream()
+                    .map(event -> newNotification(event.getReceiverId(),
+                            "You have received a connection request from user: " + event.getSenderId()))
+                    .toList();
+            sendNotificationService.sendNotifications(notifications);
+            return notifications.size();
+        });
     }
 
-    @KafkaListener(topics = ACCEPT_CONNECTION_REQUEST_TOPIC)
-    public void acceptConnectionRequestNotification(AcceptConnectionRequestEvent event) {
-        log.info("Received accept connection request event: {}", event);
-        sendNotificationService.sendNotification(event.getSenderId(),
-                "Your connection request has been accepted by user: " + event.getReceiverId());
+    @KafkaListener(topics = ACCEPT_CONNECTION_REQUEST_TOPIC, batch = "true",
+            concurrency = "${notification.kafka.concurrency:3}")
+    public void acceptConnectionRequestNotifications(List<AcceptConnectionRequestEvent> events) {
+        log.info("Received {} accept connection request events", events.size());
+        consumerMetrics.recordBatch(ACCEPT_CONNECTION_REQUEST_TOPIC, events.size(), () -> {
+            List<Notification> notifications = events.stream()
+                    .map(event -> newNotification(event.getSenderId(),
+                            "Your connection request has been accepted by user: " + event.getReceiverId()))
+                    .toList();
+            sendNotificationService.sendNotifications(notifications);
+            return notifications.size();
+        });
     }
 }
@@ -0,0 +1,35 @@
+package com.codingshuttle.linkedin.notification_service.consumer;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.function.IntSupplier;
+
+/**
+ * Throughput metrics of the batch listeners. Consumer lag comes from the Kafka client itself
+ * ({@code kafka.consumer.fetch.manager.records.lag.max}), which Spring Boot binds to the registry.
+ */
+@Component
+@RequiredArgsConstructor
+class ConsumerMetrics {
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Runs one batch and records how many records it consumed and notifications it created.
+     *
+     * @param batch returns the number of notifications created
+     */
+    void recordBatch(String topic, int records, IntSupplier batch) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        int notifications = batch.getAsInt();
+        sample.stop(meterRegistry.timer("notifications.consumer.batch", "topic", topic));
+        Counter.builder("notifications.consumer.records").tag("topic", topic)
+                .register(meterRegistry).increment(records);
+        Counter.builder("notifications.created").tag("topic", topic)
+                .register(meterRegistry).increment(notifications);
+    }
+}
@@ -5,45 +5,86 @@ import com.codingshuttle.linkedin.event.PostLikedEvent;
 import com.codingshuttle.linkedin.notification_service.client.ConnectionsClient;
 import com.codingshuttle.linkedin.notification_service.dto.PersonDto;
 import com.codingshuttle.linkedin.notification_service.entity.Notification;
-import com.codingshuttle.linkedin.notification_service.repository.NotificationRepository;
 import com.codingshuttle.linkedin.notification_service.service.SendNotificationService;
+import feign.FeignException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.BatchListenerFailedException;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 
 @Service
 @Slf4j
 @RequiredArgsConstructor
 public class PostNotificationConsumer {
 
+    public static final String POST_CREATED_TOPIC = "post-created-topic";
+    public static final String POST_LIKED_TOPIC = "post-liked-topic";
+
     private final ConnectionsClient connectionsClient;
     private final SendNotificationService sendNotificationService;
+    private final ConsumerMetrics consumerMetrics;
 
-    @KafkaListener(topics = "post-created-topic")
-    public void handlePostCreated(PostCreatedEvent event) {
-        log.info("Received post created notification: Post {} was created by user {}",
-                event.getPostId(), event.getCreatorId());
-
-        List<PersonDto> connections = connectionsClient.getFirstDegreeConnections(event.getCreatorId());
-        for (PersonDto connection : connections) {
-            String message = String.format("Your connection %s has created a new post. Check it out!", event.getCreatorId());
-            sendNotificationService.sendNotification(connection.getUserId(), message);
-        }
+    // Each poll is handled as one unit with one insert for all its notifications
+    @KafkaListener(topics = POST_CREATED_TOPIC, batch = "true",
+            concurrency = "${notification.kafka.concurrency:3}")
+    public void handlePostsCreated(List<PostCreatedEvent> events) {
+        log.info("Received {} post created events", events.size());
+        consumerMetrics.recordBatch(POST_CREATED_TOPIC, events.size(), () -> notifyConnections(events,
+                PostCreatedEvent::getCreatorId,
+                event -> String.format("Your connection %s has created a new post. Check it out!", event.getCreatorId())));
     }
 
-    @KafkaListener(topics = "post-liked-topic")
-    public void handlePostLiked(PostLikedEvent event) {
-        log.info("Received post liked notification: Post {} was liked by user {}",
-                event.getPostId(), event.getLikedByUserId());
+    @KafkaListener(topics = POST_LIKED_TOPIC, batch = "true",
+            concurrency = "${notification.kafka.concurrency:3}")
+    public void handlePostsLiked(List<PostLikedEvent> events) {
+        log.info("Received {} post liked events", events.size());
+        consumerMetrics.recordBatch(POST_LIKED_TOPIC, events.size(), () -> notifyConnections(events,
+                PostLikedEvent::getCreatorId,
+                event -> String.format("Your connection %s has liked a post %s.", event.getLikedByUserId(), event.getPostId())));
+    }
 
-        List<PersonDto> connections = connectionsClient.getFirstDegreeConnections(event.getCreatorId());
-        for (PersonDto connection : connections) {
-            String message = String.format("Your connection %s has liked a post %s.", event.getLikedByUserId(), event.getPostId());
-            sendNotificationService.sendNotification(connection.getUserId(), message);
+    /**
+     * Notifies the connections of each event's user. If connections-service fails for one event, the
+     * notifications of the events before it are stored and {@link BatchListenerFailedException} tells the
+     * error handler to commit those and retry the batch from the failed event, instead of the whole batch.
+     *
+     * @return number of notifications created
+     */
+    private <E> int notifyConnections(List<E> events, Function<E, Long> userIdOf, Function<E, String> messageOf) {
+        // A user with several events in the batch is only looked up once
+        Map<Long, List<PersonDto>> connectionsByUser = new HashMap<>();
+        List<Notification> notifications = new ArrayList<>();
+        for (int i = 0; i < events.size(); i++) {
+            E event = events.get(i);
+            Long userId = userIdOf.apply(event);
+            List<PersonDto> connections;
+            try {
+                connections = connectionsByUser.computeIfAbsent(userId, connectionsClient::getFirstDegreeConnections);
+            } catch (FeignException e) {
+                sendNotificationService.sendNotifications(notifications);
+                throw new BatchListenerFailedException("Failed to get connections of user " + userId, e, i);
+            }
+            String message = messageOf.apply(event);
+            for (PersonDto connection : connections) {
+                notifications.add(newNotification(connection.getUserId(), message));
+            }
         }
+        sendNotificationService.sendNotifications(notifications);
+        return notifications.size();
+    }
+
+    static Notification newNotification(Long userId, String message) {
+        Notification notification = new Notification();
+        notification.setUserId(userId);
+        notification.setMessage(message);
+        return notification;
     }
 
 }
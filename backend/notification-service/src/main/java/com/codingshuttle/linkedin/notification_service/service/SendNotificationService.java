@@ -2,9 +2,12 @@ package com.codingshuttle.linkedin.notification_service.service;
 
 import com.codingshuttle.linkedin.notification_service.entity.Notification;
 import com.codingshuttle.linkedin.notification_service.repository.NotificationRepository;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -14,13 +17,31 @@ import java.util.List;
 public class SendNotificationService {
 
     private final NotificationRepository notificationRepository;
+    private final EntityManager entityManager;
 
-    public void sendNotification(Long userId, String message) {
-        log.info("Sending notification to user {}", userId);
-        Notification notification = new Notification();
-        notification.setUserId(userId);
-        notification.setMessage(message);
-        notificationRepository.save(notification);
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:500}")
+    private int batchSize;
+
+    /**
+     * Stores all notifications in one transaction, so that a batch of events is saved entirely or not at all.
+     * Inserts go out as JDBC batches of {@code batchSize}, and the persistence context is cleared after
+     * each one so that it doesn't grow with the number of recipients.
+     */
+    @Transactional
+    public void sendNotifications(List<Notification> notifications) {
+        if (notifications.isEmpty()) {
+            return;
+        }
+        log.info("Sending {} notifications", notifications.size());
+        for (int i = 0; i < notifications.size(); i++) {
+            entityManager.persist(notifications.get(i));
+            if ((i + 1) % batchSize == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
     }
 
     public List<Notification> getAllNotificationsForUser(Long userId) {
@@ -0,0 +1,176 @@
+package com.codingshuttle.linkedin.notification_service.consumer;
+
+import com.codingshuttle.linkedin.event.PostCreatedEvent;
+import com.codingshuttle.linkedin.notification_service.client.ConnectionsClient;
+import com.codingshuttle.linkedin.notification_service.dto.PersonDto;
+import com.codingshuttle.linkedin.notification_service.entity.Notification;
+import com.codingshuttle.linkedin.notification_service.service.SendNotificationService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.LongDeserializer;
+import org.apache.kafka.common.serialization.LongSerializer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.BatchMessageListener;
+import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.MessageListener;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+import org.springframework.kafka.test.EmbeddedKafkaKraftBroker;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Records/sec of the notification consumers against an embedded broker, for one record per call with
+ * one save per notification (the previous listeners) and for the batch listeners. Postgres and
+ * connections-service are replaced by a fixed round trip per call, since round trips are what batching
+ * saves. Not part of the regular build:
+ * <pre>
+ * mvn test -Dtest=NotificationConsumerBenchmark -Dbenchmark=true \
+ *     -Dbenchmark.records=5000 -Dbenchmark.round-trip-micros=500
+ * </pre>
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class NotificationConsumerBenchmark {
+
+    private static final String TOPIC = PostNotificationConsumer.POST_CREATED_TOPIC;
+    private static final int PARTITIONS = 3;
+    private static final int CONNECTIONS = 10;
+    private static final int INSERT_BATCH_SIZE = 500;
+    private static final int RECORDS = Integer.getInteger("benchmark.records", 5_000);
+    private static final long ROUND_TRIP_NANOS = TimeUnit.MICROSECONDS.toNanos(
+            Long.getLong("benchmark.round-trip-micros", 500));
+
+    private static EmbeddedKafkaKraftBroker broker;
+
+    @BeforeAll
+    static void startBroker() {
+        broker = new EmbeddedKafkaKraftBroker(1, PARTITIONS, TOPIC);
+        broker.afterPropertiesSet();
+
+        Map<String, Object> producerProps = Map.of(
+                ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, broker.getBrokersAsString(),
+                ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, LongSerializer.class,
+                ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
+        DefaultKafkaProducerFactory<Long, PostCreatedEvent> producerFactory = new DefaultKafkaProducerFactory<>(producerProps);
+        KafkaTemplate<Long, PostCreatedEvent> kafkaTemplate = new KafkaTemplate<>(producerFactory);
+        for (long postId = 0; postId < RECORDS; postId++) {
+            // 1,000 distinct creators, so that batches contain repeated creators like real traffic
+            long creatorId = postId % 1_000;
+            kafkaTemplate.send(TOPIC, creatorId, new PostCreatedEvent(creatorId, "post " + postId, postId));
+        }
+        kafkaTemplate.flush();
+        producerFactory.destroy();
+    }
+
+    @AfterAll
+    static void stopBroker() {
+        broker.destroy();
+    }
+
+    @Test
+    void recordPerCallWithSavePerNotification() throws InterruptedException {
+        ConnectionsClient connectionsClient = connectionsClient();
+        CountDownLatch consumed = new CountDownLatch(RECORDS);
+        MessageListener<Long, PostCreatedEvent> listener = record -> {
+            for (PersonDto ignored : connectionsClient.getFirstDegreeConnections(record.value().getCreatorId())) {
+                roundTrip();
+            }
+            consumed.countDown();
+        };
+
+        report("record per call, save per notification", run("before", listener, 1, consumed));
+    }
+
+    @Test
+    void batchesWithOneInsertPerPoll() throws InterruptedException {
+        SendNotificationService sendNotificationService = mock(SendNotificationService.class);
+        doAnswer(invocation -> {
+            int rows = invocation.<List<Notification>>getArgument(0).size();
+            for (int i = 0; i < rows; i += INSERT_BATCH_SIZE) {
+                roundTrip();
+            }
+            return null;
+        }).when(sendNotificationService).sendNotifications(anyList());
+        PostNotificationConsumer consumer = new PostNotificationConsumer(connectionsClient(), sendNotificationService,
+                new ConsumerMetrics(new SimpleMeterRegistry()));
+        CountDownLatch consumed = new CountDownLatch(RECORDS);
+        BatchMessageListener<Long, PostCreatedEvent> listener = records -> {
+            consumer.handlePostsCreated(records.stream().map(ConsumerRecord::value).toList());
+            records.forEach(record -> consumed.countDown());
+        };
+
+        report("batches, one insert per poll", run("after", listener, PARTITIONS, consumed));
+    }
+
+    private static long run(String groupId, Object listener, int concurrency, CountDownLatch consumed)
+            throws InterruptedException {
+        Map<String, Object> consumerProps = Map.of(
+                ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, broker.getBrokersAsString(),
+                ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest",
+                ConsumerConfig.MAX_POLL_RECORDS_CONFIG, INSERT_BATCH_SIZE,
+                ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, LongDeserializer.class,
+                ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, JsonDeserializer.class,
+                JsonDeserializer.TRUSTED_PACKAGES, "com.codingshuttle.linkedin.*",
+                JsonDeserializer.VALUE_DEFAULT_TYPE, PostCreatedEvent.class.getName());
+        ContainerProperties containerProperties = new ContainerProperties(TOPIC);
+        containerProperties.setGroupId(groupId);
+        containerProperties.setMessageListener(listener);
+        ConcurrentMessageListenerContainer<Long, PostCreatedEvent> container = new ConcurrentMessageListenerContainer<>(
+                new DefaultKafkaConsumerFactory<>(consumerProps), containerProperties);
+        container.setConcurrency(concurrency);
+
+        long start = System.nanoTime();
+        container.start();
+        try {
+            assertThat(consumed.await(10, TimeUnit.MINUTES)).isTrue();
+            return System.nanoTime() - start;
+        } finally {
+            container.stop();
+        }
+    }
+
+    private static ConnectionsClient connectionsClient() {
+        ConnectionsClient connectionsClient = mock(ConnectionsClient.class);
+        when(connectionsClient.getFirstDegreeConnections(anyLong())).thenAnswer(invocation -> {
+            roundTrip();
+            return LongStream.range(0, CONNECTIONS)
+                    .mapToObj(userId -> {
+                        PersonDto person = new PersonDto();
+                        person.setUserId(userId);
+                        return person;
+                    })
+                    .toList();
+        });
+        return connectionsClient;
+    }
+
+    private static void roundTrip() {
+        LockSupport.parkNanos(ROUND_TRIP_NANOS);
+    }
+
+    private static void report(String variant, long elapsedNanos) {
+        double seconds = elapsedNanos / 1e9;
+        System.out.printf("%s: %d records in %.1f s, %.0f records/sec%n", variant, RECORDS, seconds, RECORDS / seconds);
+    }
+}
@@ -0,0 +1,92 @@
+package com.codingshuttle.linkedin.notification_service.consumer;
+
+import com.codingshuttle.linkedin.event.PostCreatedEvent;
+import com.codingshuttle.linkedin.notification_service.client.ConnectionsClient;
+import com.codingshuttle.linkedin.notification_service.dto.PersonDto;
+import com.codingshuttle.linkedin.notification_service.entity.Notification;
+import com.codingshuttle.linkedin.notification_service.service.SendNotificationService;
+import feign.FeignException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PostNotificationConsumerTest {
+
+    private ConnectionsClient connectionsClient;
+    private SendNotificationService sendNotificationService;
+    private MeterRegistry meterRegistry;
+    private PostNotificationConsumer consumer;
+
+    @BeforeEach
+    void setUp() {
+        connectionsClient = mock(ConnectionsClient.class);
+        sendNotificationService = mock(SendNotificationService.class);
+        meterRegistry = new SimpleMeterRegistry();
+        consumer = new PostNotificationConsumer(connectionsClient, sendNotificationService,
+                new ConsumerMetrics(meterRegistry));
+
+        // Every user has 100 connections
+        when(connectionsClient.getFirstDegreeConnections(anyLong())).thenAnswer(invocation -> LongStream.range(0, 100)
+                .mapToObj(userId -> {
+                    PersonDto person = new PersonDto();
+                    person.setUserId(userId);
+                    return person;
+                })
+                .toList());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void batchIsStoredWithOneCall() {
+        List<PostCreatedEvent> events = List.of(
+                new PostCreatedEvent(1L, "a", 10L),
+                new PostCreatedEvent(2L, "b", 11L),
+                new PostCreatedEvent(1L, "c", 12L));
+
+        consumer.handlePostsCreated(events);
+
+        ArgumentCaptor<List<Notification>> notifications = ArgumentCaptor.forClass(List.class);
+        verify(sendNotificationService, times(1)).sendNotifications(notifications.capture());
+        assertThat(notifications.getValue()).hasSize(300);
+        // Connections of a user with several posts in the batch are fetched once
+        verify(connectionsClient, times(1)).getFirstDegreeConnections(1L);
+        verify(connectionsClient, times(1)).getFirstDegreeConnections(2L);
+        assertThat(meterRegistry.counter("notifications.consumer.records", "topic", "post-created-topic").count())
+                .isEqualTo(3);
+        assertThat(meterRegistry.counter("notifications.created", "topic", "post-created-topic").count())
+                .isEqualTo(300);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void failedConnectionsLookupKeepsEarlierEventsAndNamesTheFailedOne() {
+        when(connectionsClient.getFirstDegreeConnections(2L)).thenThrow(FeignException.class);
+        List<PostCreatedEvent> events = List.of(
+                new PostCreatedEvent(1L, "a", 10L),
+                new PostCreatedEvent(2L, "b", 11L),
+                new PostCreatedEvent(3L, "c", 12L));
+
+        assertThatThrownBy(() -> consumer.handlePostsCreated(events))
+                .isInstanceOfSatisfying(BatchListenerFailedException.class,
+                        e -> assertThat(e.getIndex()).isEqualTo(1));
+
+        ArgumentCaptor<List<Notification>> notifications = ArgumentCaptor.forClass(List.class);
+        verify(sendNotificationService).sendNotifications(notifications.capture());
+        assertThat(notifications.getValue()).hasSize(100);
+        verify(connectionsClient, times(0)).getFirstDegreeConnections(3L);
+    }
+}
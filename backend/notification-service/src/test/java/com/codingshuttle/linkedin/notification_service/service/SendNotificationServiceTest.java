@@ -0,0 +1,62 @@
+package com.codingshuttle.linkedin.notification_service.service;
+
+import com.codingshuttle.linkedin.notification_service.entity.Notification;
+import com.codingshuttle.linkedin.notification_service.repository.NotificationRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class SendNotificationServiceTest {
+
+    private NotificationRepository notificationRepository;
+    private EntityManager entityManager;
+    private SendNotificationService sendNotificationService;
+
+    @BeforeEach
+    void setUp() {
+        notificationRepository = mock(NotificationRepository.class);
+        entityManager = mock(EntityManager.class);
+        sendNotificationService = new SendNotificationService(notificationRepository, entityManager);
+        ReflectionTestUtils.setField(sendNotificationService, "batchSize", 500);
+    }
+
+    @Test
+    void fanOutToTenThousandIsFlushedInBatches() {
+        List<Notification> notifications = LongStream.range(0, 10_000)
+                .mapToObj(userId -> {
+                    Notification notification = new Notification();
+                    notification.setUserId(userId);
+                    notification.setMessage("hello");
+                    return notification;
+                })
+                .toList();
+
+        sendNotificationService.sendNotifications(notifications);
+
+        verify(entityManager, times(10_000)).persist(argThat((Notification notification) ->
+                "hello".equals(notification.getMessage())));
+        // 20 full batches, plus a final flush that has nothing left to write
+        verify(entityManager, times(21)).flush();
+        verify(entityManager, times(21)).clear();
+        verify(notificationRepository, never()).save(any());
+    }
+
+    @Test
+    void emptyFanOutTouchesNothing() {
+        sendNotificationService.sendNotifications(List.of());
+
+        verifyNoInteractions(entityManager);
+    }
+}
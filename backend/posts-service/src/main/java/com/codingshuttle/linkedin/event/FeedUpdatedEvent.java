@@ -0,0 +1,19 @@
+package com.codingshuttle.linkedin.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FeedUpdatedEvent {
+
+    private Long postId;
+    private List<Long> userIds;
+
+}
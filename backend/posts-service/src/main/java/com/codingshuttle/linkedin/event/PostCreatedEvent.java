@@ -1,10 +1,14 @@
 package com.codingshuttle.linkedin.event;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 @Data
 @Builder
+@NoArgsConstructor
+@AllArgsConstructor
 public class PostCreatedEvent {
 
     private Long creatorId;
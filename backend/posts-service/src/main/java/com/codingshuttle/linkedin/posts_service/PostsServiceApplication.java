@@ -2,8 +2,12 @@ package com.codingshuttle.linkedin.posts_service;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.cloud.openfeign.EnableFeignClients;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
+@EnableFeignClients
 public class PostsServiceApplication {
 
 	public static void main(String[] args) {
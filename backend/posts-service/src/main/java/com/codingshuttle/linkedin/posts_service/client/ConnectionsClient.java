@@ -0,0 +1,15 @@
+package com.codingshuttle.linkedin.posts_service.client;
+
+import com.codingshuttle.linkedin.posts_service.dto.PersonDto;
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+
+import java.util.List;
+
+@FeignClient(name = "connections-service", path = "/connections", url = "${CONNECTIONS_SERVICE_URI:}")
+public interface ConnectionsClient {
+
+    @GetMapping("/core/first-degree")
+    List<PersonDto> getFirstDegreeConnections(@RequestHeader("X-User-Id") Long userId);
+}
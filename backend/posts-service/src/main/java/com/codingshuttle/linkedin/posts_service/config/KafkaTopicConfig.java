@@ -7,6 +7,9 @@ import org.springframework.context.annotation.Configuration;
 @Configuration
 public class KafkaTopicConfig {
 
+    public static final String POSTS_CHANGED_TOPIC = "posts-changed-topic";
+    public static final String FEED_UPDATES_TOPIC = "feed-updates-topic";
+
     @Bean
     public NewTopic postCreatedTopic() {
         return new NewTopic("post-created-topic", 3, (short) 1);
@@ -17,4 +20,14 @@ public class KafkaTopicConfig {
         return new NewTopic("post-liked-topic", 3, (short) 1);
     }
 
+    @Bean
+    public NewTopic postsChangedTopic() {
+        return new NewTopic(POSTS_CHANGED_TOPIC, 3, (short) 1);
+    }
+
+    @Bean
+    public NewTopic feedUpdatesTopic() {
+        return new NewTopic(FEED_UPDATES_TOPIC, 3, (short) 1);
+    }
+
 }
@@ -0,0 +1,22 @@
+package com.codingshuttle.linkedin.posts_service.consumer;
+
+import com.codingshuttle.linkedin.event.PostCreatedEvent;
+import com.codingshuttle.linkedin.posts_service.service.FeedService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Service;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class FeedFanOutConsumer {
+
+    private final FeedService feedService;
+
+    @KafkaListener(topics = "post-created-topic", groupId = "posts-service-feed")
+    public void handlePostCreated(PostCreatedEvent event) {
+        log.info("Received post created event: Post {} was created by user {}", event.getPostId(), event.getCreatorId());
+        feedService.fanOut(event);
+    }
+}
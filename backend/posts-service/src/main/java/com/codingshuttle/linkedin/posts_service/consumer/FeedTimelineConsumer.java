@@ -0,0 +1,23 @@
+package com.codingshuttle.linkedin.posts_service.consumer;
+
+import com.codingshuttle.linkedin.event.FeedUpdatedEvent;
+import com.codingshuttle.linkedin.posts_service.config.KafkaTopicConfig;
+import com.codingshuttle.linkedin.posts_service.service.FeedService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class FeedTimelineConsumer {
+
+    private final FeedService feedService;
+
+    // A group per instance so that every replica updates its cached timelines; older updates are in feed_entries
+    @KafkaListener(topics = KafkaTopicConfig.FEED_UPDATES_TOPIC,
+            groupId = "posts-service-timelines-#{T(java.util.UUID).randomUUID()}",
+            properties = "auto.offset.reset=latest")
+    public void handleFeedUpdated(FeedUpdatedEvent event) {
+        feedService.addToCachedTimelines(event.getPostId(), event.getUserIds());
+    }
+}
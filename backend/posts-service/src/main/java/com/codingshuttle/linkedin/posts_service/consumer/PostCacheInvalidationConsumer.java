@@ -0,0 +1,29 @@
+package com.codingshuttle.linkedin.posts_service.consumer;
+
+import com.codingshuttle.linkedin.event.PostsChangedEvent;
+import com.codingshuttle.linkedin.posts_service.config.KafkaTopicConfig;
+import com.codingshuttle.linkedin.posts_service.service.LikeCountAggregator;
+import com.codingshuttle.linkedin.posts_service.service.PostCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Service;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class PostCacheInvalidationConsumer {
+
+    private final PostCache postCache;
+    private final LikeCountAggregator likeCountAggregator;
+
+    // A group per instance so that every replica sees every change; history before startup is irrelevant
+    @KafkaListener(topics = KafkaTopicConfig.POSTS_CHANGED_TOPIC,
+            groupId = "posts-service-cache-#{T(java.util.UUID).randomUUID()}",
+            properties = "auto.offset.reset=latest")
+    public void handlePostsChanged(PostsChangedEvent event) {
+        log.debug("Invalidating {} cached posts", event.getPostIds().size());
+        postCache.invalidateAll(event.getPostIds());
+        likeCountAggregator.recordChanged(event.getPostIds());
+    }
+}
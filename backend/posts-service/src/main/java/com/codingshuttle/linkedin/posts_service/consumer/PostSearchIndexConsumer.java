@@ -0,0 +1,45 @@
+package com.codingshuttle.linkedin.posts_service.consumer;
+
+import com.codingshuttle.linkedin.event.PostCreatedEvent;
+import com.codingshuttle.linkedin.posts_service.service.PostSearchService;
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.ConsumerSeekAware;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Service
+@RequiredArgsConstructor
+public class PostSearchIndexConsumer implements ConsumerSeekAware {
+
+    private final PostSearchService postSearchService;
+    private final Set<TopicPartition> replayedPartitions = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Replays each partition from shortly before startup the first time it is assigned, so that posts
+     * created between the bootstrap's database stream and the assignment are indexed. Later assignments
+     * resume from the committed offsets.
+     */
+    @Override
+    public void onPartitionsAssigned(Map<TopicPartition, Long> assignments, ConsumerSeekCallback callback) {
+        List<TopicPartition> firstAssigned = assignments.keySet().stream()
+                .filter(replayedPartitions::add)
+                .toList();
+        if (!firstAssigned.isEmpty()) {
+            callback.seekToTimestamp(firstAssigned, postSearchService.getReplayFrom());
+        }
+    }
+
+    // Every instance keeps its own index; older posts come from the bootstrap, not from the topic
+    @KafkaListener(topics = "post-created-topic",
+            groupId = "posts-service-search-#{T(java.util.UUID).randomUUID()}",
+            properties = "auto.offset.reset=latest")
+    public void handlePostCreated(PostCreatedEvent event) {
+        postSearchService.indexPost(event);
+    }
+}
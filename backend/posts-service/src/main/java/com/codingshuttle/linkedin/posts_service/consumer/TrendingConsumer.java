@@ -0,0 +1,22 @@
+package com.codingshuttle.linkedin.posts_service.consumer;
+
+import com.codingshuttle.linkedin.event.PostLikedEvent;
+import com.codingshuttle.linkedin.posts_service.service.TrendingService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class TrendingConsumer {
+
+    private final TrendingService trendingService;
+
+    // A group per instance so that every replica counts every like; only recent likes matter
+    @KafkaListener(topics = "post-liked-topic",
+            groupId = "posts-service-trending-#{T(java.util.UUID).randomUUID()}",
+            properties = "auto.offset.reset=latest")
+    public void handlePostLiked(PostLikedEvent event) {
+        trendingService.recordLike(event.getPostId());
+    }
+}
@@ -0,0 +1,45 @@
+package com.codingshuttle.linkedin.posts_service.controller;
+
+import com.codingshuttle.linkedin.posts_service.auth.UserContextHolder;
+import com.codingshuttle.linkedin.posts_service.dto.CursorPageDto;
+import com.codingshuttle.linkedin.posts_service.dto.FeedPreferenceDto;
+import com.codingshuttle.linkedin.posts_service.dto.PostDto;
+import com.codingshuttle.linkedin.posts_service.entity.enums.FeedStrategy;
+import com.codingshuttle.linkedin.posts_service.service.FeedPreferenceService;
+import com.codingshuttle.linkedin.posts_service.service.FeedService;
+import com.codingshuttle.linkedin.posts_service.service.PullFeedService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/feed")
+@RequiredArgsConstructor
+@Slf4j
+public class FeedController {
+
+    private final FeedService feedService;
+    private final PullFeedService pullFeedService;
+    private final FeedPreferenceService feedPreferenceService;
+
+    @GetMapping
+    public ResponseEntity<CursorPageDto<PostDto>> getFeed(@RequestParam(required = false) String cursor,
+                                                          @RequestParam(required = false) Integer size) {
+        Long userId = UserContextHolder.getCurrentUserId();
+        FeedStrategy strategy = feedPreferenceService.getStrategy(userId);
+        log.info("Received request to get {} feed for user: {}", strategy, userId);
+
+        CursorPageDto<PostDto> page = strategy == FeedStrategy.PULL
+                ? pullFeedService.getFeed(userId, cursor, size)
+                : feedService.getFeed(userId, cursor, size);
+        return ResponseEntity.ok(page);
+    }
+
+    @PutMapping("/strategy")
+    public ResponseEntity<Void> setFeedStrategy(@RequestBody FeedPreferenceDto feedPreferenceDto) {
+        Long userId = UserContextHolder.getCurrentUserId();
+        feedPreferenceService.setStrategy(userId, feedPreferenceDto.getStrategy());
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -1,12 +1,18 @@
 package com.codingshuttle.linkedin.posts_service.controller;
 
 import com.codingshuttle.linkedin.posts_service.auth.UserContextHolder;
+import com.codingshuttle.linkedin.posts_service.dto.CursorPageDto;
+import com.codingshuttle.linkedin.posts_service.dto.LikeCountDto;
+import com.codingshuttle.linkedin.posts_service.dto.LikeStatusDto;
+import com.codingshuttle.linkedin.posts_service.dto.LikerDto;
 import com.codingshuttle.linkedin.posts_service.service.PostLikeService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/likes")
 @RequiredArgsConstructor
@@ -29,4 +35,22 @@ public class PostLikeController {
         return ResponseEntity.noContent().build();
     }
 
+    @GetMapping("/{postId}")
+    public ResponseEntity<CursorPageDto<LikerDto>> getLikers(@PathVariable Long postId,
+                                                             @RequestParam(required = false) String cursor,
+                                                             @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(postLikeService.getLikers(postId, cursor, size));
+    }
+
+    @GetMapping("/{postId}/count")
+    public ResponseEntity<LikeCountDto> countLikes(@PathVariable Long postId) {
+        return ResponseEntity.ok(postLikeService.countLikes(postId));
+    }
+
+    @PostMapping("/status")
+    public ResponseEntity<LikeStatusDto> getLikeStatus(@RequestBody List<Long> postIds) {
+        Long userId = UserContextHolder.getCurrentUserId();
+        return ResponseEntity.ok(postLikeService.getLikeStatus(postIds, userId));
+    }
+
 }
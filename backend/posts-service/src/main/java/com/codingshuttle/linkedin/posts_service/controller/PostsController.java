@@ -1,15 +1,22 @@
 package com.codingshuttle.linkedin.posts_service.controller;
 
 import com.codingshuttle.linkedin.posts_service.auth.UserContextHolder;
+import com.codingshuttle.linkedin.posts_service.dto.CursorPageDto;
 import com.codingshuttle.linkedin.posts_service.dto.PostCreateRequestDto;
 import com.codingshuttle.linkedin.posts_service.dto.PostDto;
+import com.codingshuttle.linkedin.posts_service.service.PostExportService;
 import com.codingshuttle.linkedin.posts_service.service.PostService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
+import java.util.OptionalLong;
 
 import static org.springframework.http.HttpStatus.CREATED;
 
@@ -20,6 +27,7 @@ import static org.springframework.http.HttpStatus.CREATED;
 public class PostsController {
 
     private final PostService postService;
+    private final PostExportService postExportService;
 
     @PostMapping
     public ResponseEntity<PostDto> createPost(@RequestBody PostCreateRequestDto postCreateRequestDto) {
@@ -38,10 +46,47 @@ public class PostsController {
     }
 
     @GetMapping("/users/allPosts")
-    public ResponseEntity<List<PostDto>> getAllPostForUser() {
+    public ResponseEntity<List<PostDto>> getAllPostForUser(@RequestParam(defaultValue = "false") boolean includeLikers) {
         Long userId = UserContextHolder.getCurrentUserId();
         log.info("Received request to get all posts for user: {}", userId);
-        List<PostDto> postDtos = postService.getAllPostsForUser(userId);
+        List<PostDto> postDtos = postService.getAllPostsForUser(userId, includeLikers);
         return ResponseEntity.ok(postDtos);
     }
+
+    @GetMapping("/users/posts")
+    public ResponseEntity<CursorPageDto<PostDto>> getPostsForUser(@RequestParam(required = false) String cursor,
+                                                                  @RequestParam(required = false) Integer size,
+                                                                  @RequestParam(defaultValue = "false") boolean includeLikers) {
+        Long userId = UserContextHolder.getCurrentUserId();
+        log.info("Received request to get a page of posts for user: {}", userId);
+        return ResponseEntity.ok(postService.getPostsForUser(userId, cursor, size, includeLikers));
+    }
+
+    /**
+     * Streams the current user's posts and likes as NDJSON. Resume with {@code Range: posts=<postId>-} or
+     * {@code ?from=<postId>}; the response is gzipped if the client accepts it.
+     */
+    @GetMapping("/users/export")
+    public ResponseEntity<StreamingResponseBody> exportPosts(
+            @RequestParam(required = false) Long from,
+            @RequestHeader(value = HttpHeaders.RANGE, required = false) String range,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        Long userId = UserContextHolder.getCurrentUserId();
+        OptionalLong rangeStart = range != null ? PostExportService.parseRange(range) : OptionalLong.empty();
+        long fromPostId = rangeStart.isPresent() ? rangeStart.getAsLong() : from != null ? from : 0;
+        boolean gzip = PostExportService.acceptsGzip(acceptEncoding);
+        log.info("Received request to export posts for user: {} from post: {}", userId, fromPostId);
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(rangeStart.isPresent() ? HttpStatus.PARTIAL_CONTENT : HttpStatus.OK)
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.ACCEPT_RANGES, "posts")
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (rangeStart.isPresent()) {
+            response.header(HttpHeaders.CONTENT_RANGE, "posts " + fromPostId + "-");
+        }
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(out -> postExportService.writeExport(userId, fromPostId, gzip, out));
+    }
 }
@@ -0,0 +1,29 @@
+package com.codingshuttle.linkedin.posts_service.controller;
+
+import com.codingshuttle.linkedin.posts_service.dto.PostSearchHitDto;
+import com.codingshuttle.linkedin.posts_service.service.PostSearchService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/search")
+@RequiredArgsConstructor
+@Slf4j
+public class SearchController {
+
+    private final PostSearchService postSearchService;
+
+    @GetMapping
+    public ResponseEntity<List<PostSearchHitDto>> search(@RequestParam String q,
+                                                         @RequestParam(required = false) Integer limit) {
+        log.info("Received search request: {}", q);
+        return ResponseEntity.ok(postSearchService.search(q, limit));
+    }
+}
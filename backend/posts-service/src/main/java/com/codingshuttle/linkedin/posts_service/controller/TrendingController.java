@@ -0,0 +1,27 @@
+package com.codingshuttle.linkedin.posts_service.controller;
+
+import com.codingshuttle.linkedin.posts_service.dto.TrendingPostDto;
+import com.codingshuttle.linkedin.posts_service.dto.TrendingWindow;
+import com.codingshuttle.linkedin.posts_service.service.TrendingService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/trending")
+@RequiredArgsConstructor
+public class TrendingController {
+
+    private final TrendingService trendingService;
+
+    @GetMapping
+    public ResponseEntity<List<TrendingPostDto>> getTrending(@RequestParam(defaultValue = "1h") String window,
+                                                             @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(trendingService.getTrending(TrendingWindow.fromParam(window), size));
+    }
+}
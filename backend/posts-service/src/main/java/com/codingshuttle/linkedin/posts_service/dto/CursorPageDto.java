@@ -0,0 +1,17 @@
+package com.codingshuttle.linkedin.posts_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageDto<T> {
+
+    private List<T> items;
+    private String nextCursor;
+
+}
@@ -0,0 +1,11 @@
+package com.codingshuttle.linkedin.posts_service.dto;
+
+import com.codingshuttle.linkedin.posts_service.entity.enums.FeedStrategy;
+import lombok.Data;
+
+@Data
+public class FeedPreferenceDto {
+
+    private FeedStrategy strategy;
+
+}
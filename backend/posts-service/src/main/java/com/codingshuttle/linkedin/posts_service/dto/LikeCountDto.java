@@ -0,0 +1,15 @@
+package com.codingshuttle.linkedin.posts_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LikeCountDto {
+
+    private Long postId;
+    private long count;
+
+}
@@ -0,0 +1,19 @@
+package com.codingshuttle.linkedin.posts_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Bit {@code i} of {@code liked} (little-endian, as in {@link java.util.BitSet#toByteArray()}) is set
+ * when the i-th requested post is liked by the current user. Trailing zero bytes are omitted.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LikeStatusDto {
+
+    private int count;
+    private String liked;
+
+}
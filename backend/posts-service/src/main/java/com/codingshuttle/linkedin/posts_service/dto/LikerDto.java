@@ -0,0 +1,17 @@
+package com.codingshuttle.linkedin.posts_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LikerDto {
+
+    private Long userId;
+    private LocalDateTime likedAt;
+
+}
@@ -1,5 +1,6 @@
 package com.codingshuttle.linkedin.posts_service.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Data;
 
 import java.time.LocalDateTime;
@@ -12,6 +13,9 @@ public class PostDto {
     private String content;
     private Long userId;
     private LocalDateTime createdAt;
+    private Long likeCount;
+    // Only filled in when explicitly requested; use /likes/status for the current user's likes
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     private List<Long> likedByUserIds;
 
 }
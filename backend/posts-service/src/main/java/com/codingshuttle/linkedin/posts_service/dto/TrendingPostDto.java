@@ -0,0 +1,16 @@
+package com.codingshuttle.linkedin.posts_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TrendingPostDto {
+
+    private Long postId;
+    // Estimated likes within the window; may overcount slightly, never undercounts
+    private long likes;
+
+}
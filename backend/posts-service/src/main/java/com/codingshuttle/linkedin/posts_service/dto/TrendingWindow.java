@@ -0,0 +1,24 @@
+package com.codingshuttle.linkedin.posts_service.dto;
+
+import com.codingshuttle.linkedin.posts_service.exception.BadRequestException;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum TrendingWindow {
+    FIVE_MINUTES("5m"),
+    ONE_HOUR("1h"),
+    ONE_DAY("24h");
+
+    private final String param;
+
+    public static TrendingWindow fromParam(String param) {
+        for (TrendingWindow window : values()) {
+            if (window.param.equalsIgnoreCase(param)) {
+                return window;
+            }
+        }
+        throw new BadRequestException("Unknown trending window: " + param + ", expected one of 5m, 1h, 24h");
+    }
+}
@@ -0,0 +1,34 @@
+package com.codingshuttle.linkedin.posts_service.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * Durable copy of the fan-out-on-write timelines: one row per post delivered to a user's feed.
+ */
+@Entity
+@Getter
+@Setter
+@Table(name = "feed_entries", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_feed_entries_user_post", columnNames = {"user_id", "post_id"})
+})
+public class FeedEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    @Column(nullable = false)
+    private Long postId;
+
+    @CreationTimestamp
+    private LocalDateTime createdAt;
+
+}
@@ -0,0 +1,25 @@
+package com.codingshuttle.linkedin.posts_service.entity;
+
+import com.codingshuttle.linkedin.posts_service.entity.enums.FeedStrategy;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "feed_preferences")
+public class FeedPreference {
+
+    @Id
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private FeedStrategy strategy;
+
+}
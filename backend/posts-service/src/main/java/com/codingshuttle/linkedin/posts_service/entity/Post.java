@@ -3,6 +3,7 @@ package com.codingshuttle.linkedin.posts_service.entity;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 
 import java.time.LocalDateTime;
@@ -10,7 +11,10 @@ import java.time.LocalDateTime;
 @Entity
 @Getter
 @Setter
-@Table(name = "posts")
+@Table(name = "posts", indexes = {
+        @Index(name = "idx_posts_user_created_id", columnList = "user_id, created_at, id"),
+        @Index(name = "idx_posts_user_id", columnList = "user_id, id")
+})
 public class Post {
 
     @Id
@@ -26,4 +30,9 @@ public class Post {
     @CreationTimestamp
     private LocalDateTime createdAt;
 
+    // Maintained by LikeCountAggregator
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private long likeCount;
+
 }
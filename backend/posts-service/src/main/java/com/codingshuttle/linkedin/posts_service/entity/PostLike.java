@@ -10,7 +10,12 @@ import java.time.LocalDateTime;
 @Getter
 @Setter
 @Builder
-@Table(name = "post_likes")
+@Table(name = "post_likes", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_post_likes_post_user", columnNames = {"post_id", "user_id"})
+}, indexes = {
+        @Index(name = "idx_post_likes_user_post", columnList = "user_id, post_id"),
+        @Index(name = "idx_post_likes_post_created_id", columnList = "post_id, created_at, id")
+})
 @NoArgsConstructor
 @AllArgsConstructor
 public class PostLike {
@@ -0,0 +1,8 @@
+package com.codingshuttle.linkedin.posts_service.entity.enums;
+
+public enum FeedStrategy {
+    // Timelines are built when posts are created (FeedService)
+    PUSH,
+    // Timelines are merged from connections' recent posts when read (PullFeedService)
+    PULL
+}
@@ -0,0 +1,48 @@
+package com.codingshuttle.linkedin.posts_service.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+
+@Repository
+@RequiredArgsConstructor
+public class AdvisoryLockRepository {
+
+    // Keys of the Postgres advisory locks taken by scheduled jobs, so that only one replica runs each
+    public static final long LIKE_COUNT_RECONCILE_LOCK = 7_001L;
+    public static final long FEED_TRIM_LOCK = 7_002L;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Runs the task unless another instance holds the lock. The session-level lock lives on one pooled
+     * connection that is held until the task is done, so the task's own queries use other connections.
+     *
+     * @return false if the task was skipped because the lock is taken
+     */
+    public boolean runExclusively(long lockKey, Runnable task) {
+        return Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            try (PreparedStatement lock = connection.prepareStatement("SELECT pg_try_advisory_lock(?)")) {
+                lock.setLong(1, lockKey);
+                try (ResultSet rs = lock.executeQuery()) {
+                    if (!rs.next() || !rs.getBoolean(1)) {
+                        return false;
+                    }
+                }
+            }
+            try {
+                task.run();
+                return true;
+            } finally {
+                try (PreparedStatement unlock = connection.prepareStatement("SELECT pg_advisory_unlock(?)")) {
+                    unlock.setLong(1, lockKey);
+                    unlock.execute();
+                }
+            }
+        }));
+    }
+}
@@ -0,0 +1,47 @@
+package com.codingshuttle.linkedin.posts_service.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class FeedEntryBatchRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Appends the post to every user's feed in one JDBC batch. Redelivered events are no-ops thanks
+     * to {@code uk_feed_entries_user_post}.
+     */
+    public void insertAll(long postId, List<Long> userIds) {
+        jdbcTemplate.batchUpdate("INSERT INTO feed_entries (user_id, post_id, created_at) VALUES (?, ?, now()) " +
+                        "ON CONFLICT (user_id, post_id) DO NOTHING",
+                userIds, userIds.size(), (ps, userId) -> {
+                    ps.setLong(1, userId);
+                    ps.setLong(2, postId);
+                });
+    }
+
+    /**
+     * Deletes everything but the newest {@code keep} entries of each feed with a user id in
+     * {@code (fromUserId, toUserId]}; each range is a scan of {@code uk_feed_entries_user_post}.
+     *
+     * @return number of deleted entries
+     */
+    public int trim(int keep, long fromUserId, long toUserId) {
+        return jdbcTemplate.update("""
+                DELETE FROM feed_entries WHERE id IN (
+                    SELECT id FROM (
+                        SELECT id, row_number() OVER (PARTITION BY user_id ORDER BY post_id DESC) AS rn
+                        FROM feed_entries
+                        WHERE user_id > ? AND user_id <= ?) ranked
+                    WHERE ranked.rn > ?)""", fromUserId, toUserId, keep);
+    }
+
+    public long maxUserId() {
+        return jdbcTemplate.queryForObject("SELECT coalesce(max(user_id), 0) FROM feed_entries", Long.class);
+    }
+}
@@ -0,0 +1,18 @@
+package com.codingshuttle.linkedin.posts_service.repository;
+
+import com.codingshuttle.linkedin.posts_service.entity.FeedEntry;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface FeedEntryRepository extends JpaRepository<FeedEntry, Long> {
+
+    // Served by the (user_id, post_id) unique index
+    @Query("select f.postId from FeedEntry f where f.userId = :userId order by f.postId desc")
+    List<Long> findLatestPostIds(@Param("userId") Long userId, Limit limit);
+}
@@ -0,0 +1,19 @@
+package com.codingshuttle.linkedin.posts_service.repository;
+
+import com.codingshuttle.linkedin.posts_service.entity.FeedPreference;
+import com.codingshuttle.linkedin.posts_service.entity.enums.FeedStrategy;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface FeedPreferenceRepository extends JpaRepository<FeedPreference, Long> {
+
+    @Query("select p.userId from FeedPreference p where p.strategy = :strategy and p.userId in :userIds")
+    List<Long> findUserIdsWithStrategy(@Param("strategy") FeedStrategy strategy,
+                                       @Param("userIds") Collection<Long> userIds);
+}
@@ -1,20 +1,73 @@
 package com.codingshuttle.linkedin.posts_service.repository;
 
 import com.codingshuttle.linkedin.posts_service.entity.PostLike;
+import com.codingshuttle.linkedin.posts_service.repository.projection.LikeExportProjection;
+import com.codingshuttle.linkedin.posts_service.repository.projection.LikerProjection;
+import com.codingshuttle.linkedin.posts_service.repository.projection.PostLikeProjection;
+import jakarta.persistence.QueryHint;
 import jakarta.transaction.Transactional;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
-import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface PostLikeRepository extends JpaRepository<PostLike, Long> {
 
-    Optional<PostLike> findByPostIdAndUserId(Long postId, Long userId);
+    /**
+     * Likes the post in a single statement. Relies on {@code uk_post_likes_post_user}, so concurrent
+     * duplicate likes can't create a second row.
+     *
+     * @return 1 if the like was added, 0 if it already existed or the post doesn't exist
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO post_likes (post_id, user_id, created_at) " +
+            "SELECT :postId, :userId, now() WHERE EXISTS (SELECT 1 FROM posts WHERE id = :postId) " +
+            "ON CONFLICT (post_id, user_id) DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("postId") Long postId, @Param("userId") Long userId);
 
+    /**
+     * @return 1 if the like was removed, 0 if there was none
+     */
+    @Modifying
     @Transactional
-    void deleteByPostIdAndUserId(Long postId, long userId);
+    @Query("delete from PostLike pl where pl.postId = :postId and pl.userId = :userId")
+    int deleteIfPresent(@Param("postId") Long postId, @Param("userId") Long userId);
+
+    // Pages seek on idx_post_likes_post_created_id, so the cost of a page doesn't grow with its depth
+    @Query("select pl.id as id, pl.userId as userId, pl.createdAt as createdAt from PostLike pl " +
+            "where pl.postId = :postId order by pl.createdAt desc, pl.id desc")
+    List<LikerProjection> findLikers(@Param("postId") Long postId, Limit limit);
+
+    @Query("select pl.id as id, pl.userId as userId, pl.createdAt as createdAt from PostLike pl " +
+            "where pl.postId = :postId " +
+            "and (pl.createdAt < :createdAt or (pl.createdAt = :createdAt and pl.id < :id)) " +
+            "order by pl.createdAt desc, pl.id desc")
+    List<LikerProjection> findLikersBefore(@Param("postId") Long postId,
+                                           @Param("createdAt") LocalDateTime createdAt,
+                                           @Param("id") Long id,
+                                           Limit limit);
+
+    @Query("select pl.postId as postId, pl.userId as userId from PostLike pl where pl.postId in :postIds")
+    List<PostLikeProjection> findLikersByPostIdIn(@Param("postIds") Collection<Long> postIds);
+
+    // Served by idx_post_likes_user_post
+    @Query("select pl.postId from PostLike pl where pl.userId = :userId and pl.postId in :postIds")
+    List<Long> findLikedPostIds(@Param("userId") Long userId, @Param("postIds") Collection<Long> postIds);
 
-    List<PostLike> findByPostId(Long postId);
-}
\ No newline at end of file
+    // Walks idx_post_likes_user_post
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("select pl.postId as postId, pl.createdAt as createdAt from PostLike pl " +
+            "where pl.userId = :userId and pl.postId >= :fromPostId order by pl.postId")
+    Stream<LikeExportProjection> streamForExport(@Param("userId") Long userId, @Param("fromPostId") Long fromPostId);
+}
@@ -1,13 +1,48 @@
 package com.codingshuttle.linkedin.posts_service.repository;
 
 import com.codingshuttle.linkedin.posts_service.entity.Post;
+import com.codingshuttle.linkedin.posts_service.repository.projection.PostContentProjection;
+import com.codingshuttle.linkedin.posts_service.repository.projection.PostExportProjection;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface PostRepository extends JpaRepository<Post, Long> {
 
     List<Post> findAllByUserId(Long userId);
+
+    List<Post> findByUserIdOrderByCreatedAtDescIdDesc(Long userId, Limit limit);
+
+    @Query("select p.likeCount from Post p where p.id = :id")
+    Optional<Long> findLikeCountById(@Param("id") Long id);
+
+    // Seeks on idx_posts_user_created_id, so the cost of a page doesn't grow with its depth
+    @Query("select p from Post p where p.userId = :userId " +
+            "and (p.createdAt < :createdAt or (p.createdAt = :createdAt and p.id < :id)) " +
+            "order by p.createdAt desc, p.id desc")
+    List<Post> findByUserIdBefore(@Param("userId") Long userId,
+                                  @Param("createdAt") LocalDateTime createdAt,
+                                  @Param("id") Long id,
+                                  Limit limit);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("select p.id as id, p.content as content from Post p where p.id > :afterId order by p.id")
+    Stream<PostContentProjection> streamContentAfter(@Param("afterId") Long afterId);
+
+    // Walks idx_posts_user_id, so resuming from a post id is a seek
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("select p.id as id, p.content as content, p.createdAt as createdAt, p.likeCount as likeCount " +
+            "from Post p where p.userId = :userId and p.id >= :fromId order by p.id")
+    Stream<PostExportProjection> streamForExport(@Param("userId") Long userId, @Param("fromId") Long fromId);
 }
@@ -0,0 +1,50 @@
+package com.codingshuttle.linkedin.posts_service.repository;
+
+import com.codingshuttle.linkedin.posts_service.repository.projection.FeedCandidate;
+import com.codingshuttle.linkedin.posts_service.util.KeysetCursor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class RecentPostsRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Returns up to {@code perAuthor} of each author's newest posts older than {@code before} (all posts
+     * if null), grouped by author and newest first within an author. Every author is a separate range
+     * scan on {@code idx_posts_user_created_id}, so the cost is bounded by {@code authors * perAuthor}.
+     */
+    public List<FeedCandidate> findRecentPosts(List<Long> authorIds, KeysetCursor before, int perAuthor) {
+        String keyset = before == null ? "" : "AND (created_at < ? OR (created_at = ? AND id < ?)) ";
+        String sql = "SELECT p.id, p.user_id, p.created_at " +
+                "FROM unnest(?) AS a(user_id) " +
+                "CROSS JOIN LATERAL (" +
+                "    SELECT id, user_id, created_at FROM posts " +
+                "    WHERE user_id = a.user_id " + keyset +
+                "    ORDER BY created_at DESC, id DESC LIMIT ?) p " +
+                "ORDER BY p.user_id, p.created_at DESC, p.id DESC";
+
+        return jdbcTemplate.query(connection -> {
+                    PreparedStatement ps = connection.prepareStatement(sql);
+                    int index = 1;
+                    ps.setArray(index++, connection.createArrayOf("bigint", authorIds.toArray()));
+                    if (before != null) {
+                        Timestamp createdAt = Timestamp.valueOf(before.createdAt());
+                        ps.setTimestamp(index++, createdAt);
+                        ps.setTimestamp(index++, createdAt);
+                        ps.setLong(index++, before.id());
+                    }
+                    ps.setInt(index, perAuthor);
+                    return ps;
+                },
+                (rs, rowNum) -> new FeedCandidate(rs.getLong("id"), rs.getLong("user_id"),
+                        rs.getTimestamp("created_at").toLocalDateTime()));
+    }
+}
@@ -0,0 +1,6 @@
+package com.codingshuttle.linkedin.posts_service.repository.projection;
+
+import java.time.LocalDateTime;
+
+public record FeedCandidate(Long postId, Long userId, LocalDateTime createdAt) {
+}
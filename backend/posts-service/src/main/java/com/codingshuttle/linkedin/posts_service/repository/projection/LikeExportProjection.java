@@ -0,0 +1,11 @@
+package com.codingshuttle.linkedin.posts_service.repository.projection;
+
+import java.time.LocalDateTime;
+
+public interface LikeExportProjection {
+
+    Long getPostId();
+
+    LocalDateTime getCreatedAt();
+
+}
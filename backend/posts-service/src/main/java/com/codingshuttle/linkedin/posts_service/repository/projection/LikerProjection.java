@@ -0,0 +1,13 @@
+package com.codingshuttle.linkedin.posts_service.repository.projection;
+
+import java.time.LocalDateTime;
+
+public interface LikerProjection {
+
+    Long getId();
+
+    Long getUserId();
+
+    LocalDateTime getCreatedAt();
+
+}
@@ -0,0 +1,9 @@
+package com.codingshuttle.linkedin.posts_service.repository.projection;
+
+public interface PostContentProjection {
+
+    Long getId();
+
+    String getContent();
+
+}
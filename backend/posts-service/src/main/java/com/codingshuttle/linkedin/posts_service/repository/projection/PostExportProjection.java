@@ -0,0 +1,15 @@
+package com.codingshuttle.linkedin.posts_service.repository.projection;
+
+import java.time.LocalDateTime;
+
+public interface PostExportProjection {
+
+    Long getId();
+
+    String getContent();
+
+    LocalDateTime getCreatedAt();
+
+    long getLikeCount();
+
+}
@@ -0,0 +1,9 @@
+package com.codingshuttle.linkedin.posts_service.repository.projection;
+
+public interface PostLikeProjection {
+
+    Long getPostId();
+
+    Long getUserId();
+
+}
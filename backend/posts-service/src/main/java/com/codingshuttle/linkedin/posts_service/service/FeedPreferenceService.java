@@ -0,0 +1,31 @@
+package com.codingshuttle.linkedin.posts_service.service;
+
+import com.codingshuttle.linkedin.posts_service.entity.FeedPreference;
+import com.codingshuttle.linkedin.posts_service.entity.enums.FeedStrategy;
+import com.codingshuttle.linkedin.posts_service.exception.BadRequestException;
+import com.codingshuttle.linkedin.posts_service.repository.FeedPreferenceRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class FeedPreferenceService {
+
+    private final FeedPreferenceRepository feedPreferenceRepository;
+
+    public FeedStrategy getStrategy(Long userId) {
+        return feedPreferenceRepository.findById(userId)
+                .map(FeedPreference::getStrategy)
+                .orElse(FeedStrategy.PUSH);
+    }
+
+    public void setStrategy(Long userId, FeedStrategy strategy) {
+        if (strategy == null) {
+            throw new BadRequestException("Feed strategy is required");
+        }
+        feedPreferenceRepository.save(new FeedPreference(userId, strategy));
+        log.info("Feed strategy for user {} set to {}", userId, strategy);
+    }
+}
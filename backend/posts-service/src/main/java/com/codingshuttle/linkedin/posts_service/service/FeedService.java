@@ -0,0 +1,188 @@
+package com.codingshuttle.linkedin.posts_service.service;
+
+import com.codingshuttle.linkedin.event.FeedUpdatedEvent;
+import com.codingshuttle.linkedin.event.PostCreatedEvent;
+import com.codingshuttle.linkedin.posts_service.client.ConnectionsClient;
+import com.codingshuttle.linkedin.posts_service.config.KafkaTopicConfig;
+import com.codingshuttle.linkedin.posts_service.dto.CursorPageDto;
+import com.codingshuttle.linkedin.posts_service.dto.PersonDto;
+import com.codingshuttle.linkedin.posts_service.dto.PostDto;
+import com.codingshuttle.linkedin.posts_service.entity.enums.FeedStrategy;
+import com.codingshuttle.linkedin.posts_service.repository.AdvisoryLockRepository;
+import com.codingshuttle.linkedin.posts_service.repository.FeedEntryBatchRepository;
+import com.codingshuttle.linkedin.posts_service.repository.FeedEntryRepository;
+import com.codingshuttle.linkedin.posts_service.repository.FeedPreferenceRepository;
+import com.codingshuttle.linkedin.posts_service.util.KeysetCursor;
+import com.codingshuttle.linkedin.posts_service.util.LongRingBuffer;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Fan-out-on-write home feed. Every new post is appended to the timelines of its creator and the
+ * creator's first-degree connections. Timelines keep the newest {@code posts.feed.capacity} post ids;
+ * the {@code feed_entries} table is the durable copy and hot timelines live in memory as
+ * {@link LongRingBuffer}s, so a read costs O(page size) plus one query to load the page's posts. Fan-out
+ * for a post runs on one replica, which announces it on {@code feed-updates-topic} so that every replica
+ * updates the timelines it has cached.
+ */
+@Service
+@Slf4j
+public class FeedService {
+
+    private final ConnectionsClient connectionsClient;
+    private final FeedEntryRepository feedEntryRepository;
+    private final FeedEntryBatchRepository feedEntryBatchRepository;
+    private final FeedPreferenceRepository feedPreferenceRepository;
+    private final PostService postService;
+    private final KafkaTemplate<Long, FeedUpdatedEvent> kafkaTemplate;
+    private final AdvisoryLockRepository advisoryLockRepository;
+    private final Cache<Long, LongRingBuffer> timelines;
+    private final Timer fanOutTimer;
+    private final int capacity;
+    private final int insertBatchSize;
+    private final int trimBatchUsers;
+    private final int defaultPageSize;
+    private final int maxPageSize;
+
+    public FeedService(ConnectionsClient connectionsClient,
+                       FeedEntryRepository feedEntryRepository,
+                       FeedEntryBatchRepository feedEntryBatchRepository,
+                       FeedPreferenceRepository feedPreferenceRepository,
+                       PostService postService,
+                       KafkaTemplate<Long, FeedUpdatedEvent> kafkaTemplate,
+                       AdvisoryLockRepository advisoryLockRepository,
+                       MeterRegistry meterRegistry,
+                       @Value("${posts.feed.capacity:500}") int capacity,
+                       @Value("${posts.feed.cached-timelines:100000}") long cachedTimelines,
+                       @Value("${posts.feed.cache-ttl:1m}") Duration cacheTtl,
+                       @Value("${posts.feed.insert-batch-size:1000}") int insertBatchSize,
+                       @Value("${posts.feed.trim-batch-users:1000}") int trimBatchUsers,
+                       @Value("${posts.page.default-size:20}") int defaultPageSize,
+                       @Value("${posts.page.max-size:100}") int maxPageSize) {
+        this.connectionsClient = connectionsClient;
+        this.feedEntryRepository = feedEntryRepository;
+        this.feedEntryBatchRepository = feedEntryBatchRepository;
+        this.feedPreferenceRepository = feedPreferenceRepository;
+        this.postService = postService;
+        this.kafkaTemplate = kafkaTemplate;
+        this.advisoryLockRepository = advisoryLockRepository;
+        this.capacity = capacity;
+        this.insertBatchSize = insertBatchSize;
+        this.trimBatchUsers = trimBatchUsers;
+        this.defaultPageSize = defaultPageSize;
+        this.maxPageSize = maxPageSize;
+        // Timelines are updated in place, which Caffeine doesn't count as a write, so every copy is reloaded
+        // from feed_entries after the TTL; this repairs updates a replica missed, e.g. while restarting
+        this.timelines = Caffeine.newBuilder()
+                .maximumSize(cachedTimelines)
+                .expireAfterWrite(cacheTtl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, timelines, "feed-timelines");
+        this.fanOutTimer = meterRegistry.timer("posts.feed.fan-out");
+    }
+
+    public void fanOut(PostCreatedEvent event) {
+        long start = System.nanoTime();
+        List<PersonDto> connections = connectionsClient.getFirstDegreeConnections(event.getCreatorId());
+        List<Long> userIds = new ArrayList<>(connections.size() + 1);
+        userIds.add(event.getCreatorId());
+        for (PersonDto connection : connections) {
+            userIds.add(connection.getUserId());
+        }
+        // PULL users assemble their feed at read time, pushing to them would only fill the table
+        Set<Long> pullUserIds = new HashSet<>();
+        for (int from = 0; from < userIds.size(); from += insertBatchSize) {
+            pullUserIds.addAll(feedPreferenceRepository.findUserIdsWithStrategy(FeedStrategy.PULL,
+                    userIds.subList(from, Math.min(userIds.size(), from + insertBatchSize))));
+        }
+        if (!pullUserIds.isEmpty()) {
+            userIds.removeIf(pullUserIds::contains);
+        }
+
+        for (int from = 0; from < userIds.size(); from += insertBatchSize) {
+            List<Long> chunk = userIds.subList(from, Math.min(userIds.size(), from + insertBatchSize));
+            feedEntryBatchRepository.insertAll(event.getPostId(), chunk);
+            // Chunked so that a large fan-out stays well below Kafka's message size limit
+            kafkaTemplate.send(KafkaTopicConfig.FEED_UPDATES_TOPIC, event.getPostId(),
+                    new FeedUpdatedEvent(event.getPostId(), List.copyOf(chunk)));
+        }
+        addToCachedTimelines(event.getPostId(), userIds);
+
+        fanOutTimer.record(Duration.ofNanos(System.nanoTime() - start));
+        log.info("Fanned out post {} to {} feeds", event.getPostId(), userIds.size());
+    }
+
+    public CursorPageDto<PostDto> getFeed(Long userId, String cursor, Integer size) {
+        int pageSize = size == null ? defaultPageSize : Math.clamp(size, 1, maxPageSize);
+        long before = cursor == null || cursor.isBlank() ? Long.MAX_VALUE : KeysetCursor.decode(cursor).id();
+
+        LongRingBuffer timeline = timelines.get(userId, this::loadTimeline);
+        long[] postIds = timeline.pageBefore(before, pageSize);
+        List<PostDto> posts = postService.getPostsByIds(Arrays.stream(postIds).boxed().toList());
+
+        // Same cursor format as the pull feed, so paging survives a change of strategy
+        String nextCursor = null;
+        if (postIds.length == pageSize && !posts.isEmpty()) {
+            PostDto last = posts.getLast();
+            nextCursor = new KeysetCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+        return new CursorPageDto<>(posts, nextCursor);
+    }
+
+    /**
+     * Adds the post to those of the users' timelines that are cached here; the rest load it from
+     * {@code feed_entries}. Applying the same update twice is a no-op.
+     */
+    public void addToCachedTimelines(long postId, List<Long> userIds) {
+        for (Long userId : userIds) {
+            LongRingBuffer timeline = timelines.getIfPresent(userId);
+            if (timeline != null) {
+                timeline.add(postId);
+            }
+        }
+    }
+
+    @Scheduled(cron = "${posts.feed.trim-cron:0 30 3 * * *}")
+    public void trimFeeds() {
+        if (!advisoryLockRepository.runExclusively(AdvisoryLockRepository.FEED_TRIM_LOCK, this::trimInBatches)) {
+            log.info("Feed trimming is already running on another instance");
+        }
+    }
+
+    // One statement per range of user ids keeps each delete short instead of one pass over the whole table
+    private void trimInBatches() {
+        long maxUserId = feedEntryBatchRepository.maxUserId();
+        long deleted = 0;
+        for (long from = 0; from < maxUserId; from += trimBatchUsers) {
+            deleted += feedEntryBatchRepository.trim(capacity, from, from + trimBatchUsers);
+        }
+        log.info("Trimmed {} feed entries beyond the newest {} per user", deleted, capacity);
+    }
+
+    private LongRingBuffer loadTimeline(Long userId) {
+        List<Long> newestFirst = feedEntryRepository.findLatestPostIds(userId, Limit.of(capacity));
+        // Oldest first, so that every add is an append
+        long[] postIds = new long[newestFirst.size()];
+        for (int i = 0; i < postIds.length; i++) {
+            postIds[i] = newestFirst.get(postIds.length - 1 - i);
+        }
+        return LongRingBuffer.of(capacity, postIds);
+    }
+}
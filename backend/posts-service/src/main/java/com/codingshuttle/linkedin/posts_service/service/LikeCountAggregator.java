@@ -0,0 +1,190 @@
+package com.codingshuttle.linkedin.posts_service.service;
+
+import com.codingshuttle.linkedin.event.PostsChangedEvent;
+import com.codingshuttle.linkedin.posts_service.config.KafkaTopicConfig;
+import com.codingshuttle.linkedin.posts_service.repository.AdvisoryLockRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Write-behind counter for {@code posts.like_count}. Likes and unlikes only bump an in-memory delta
+ * (per-bin locking of the map keeps concurrent posts from contending); the deltas are periodically
+ * applied with one batched {@code UPDATE}. A reconciliation job recounts {@code post_likes} to repair
+ * drift that persists, e.g. deltas lost in a crash. Changed posts are announced on {@code posts-changed-topic}
+ * so that every replica drops its cached copy.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class LikeCountAggregator {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final KafkaTemplate<Long, PostsChangedEvent> kafkaTemplate;
+    private final AdvisoryLockRepository advisoryLockRepository;
+    private final ConcurrentHashMap<Long, Long> pendingDeltas = new ConcurrentHashMap<>();
+    // Posts changed by any replica while a reconciliation runs; null otherwise
+    private volatile Set<Long> changedDuringReconcile;
+
+    @Value("${posts.like-count.reconcile-batch-size:10000}")
+    private int reconcileBatchSize;
+
+    @Value("${posts.like-count.reconcile-settle:5s}")
+    private Duration reconcileSettle;
+
+    public void increment(Long postId) {
+        pendingDeltas.merge(postId, 1L, Long::sum);
+    }
+
+    public void decrement(Long postId) {
+        pendingDeltas.merge(postId, -1L, Long::sum);
+    }
+
+    @Scheduled(fixedDelayString = "${posts.like-count.flush-interval:1s}")
+    public synchronized void flush() {
+        List<Map.Entry<Long, Long>> deltas = new ArrayList<>(pendingDeltas.size());
+        for (Long postId : pendingDeltas.keySet()) {
+            Long delta = pendingDeltas.remove(postId);
+            if (delta != null && delta != 0) {
+                deltas.add(Map.entry(postId, delta));
+            }
+        }
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        try {
+            jdbcTemplate.batchUpdate("UPDATE posts SET like_count = like_count + ? WHERE id = ?",
+                    deltas, deltas.size(), (ps, delta) -> {
+                        ps.setLong(1, delta.getValue());
+                        ps.setLong(2, delta.getKey());
+                    });
+            log.debug("Flushed like count deltas for {} posts", deltas.size());
+        } catch (RuntimeException e) {
+            // Put the deltas back so that the next flush retries them
+            deltas.forEach(delta -> pendingDeltas.merge(delta.getKey(), delta.getValue(), Long::sum));
+            log.warn("Failed to flush like count deltas for {} posts, will retry", deltas.size(), e);
+            return;
+        }
+        publishPostsChanged(deltas.stream().map(Map.Entry::getKey).toList());
+    }
+
+    /**
+     * Recounts {@code post_likes} and repairs drifted rows, on one replica at a time. A drift may just be
+     * a delta that some replica hasn't flushed yet, so drifts are only repaired if they are still the same
+     * after {@code posts.like-count.reconcile-settle} and the post saw no flushed or pending delta meanwhile.
+     */
+    @Scheduled(cron = "${posts.like-count.reconcile-cron:0 0 3 * * *}")
+    public void reconcile() {
+        if (!advisoryLockRepository.runExclusively(AdvisoryLockRepository.LIKE_COUNT_RECONCILE_LOCK, this::reconcileDrifts)) {
+            log.info("Like count reconciliation is already running on another instance");
+        }
+    }
+
+    /**
+     * Called for every {@code posts-changed-topic} event, from any replica.
+     */
+    public void recordChanged(List<Long> postIds) {
+        Set<Long> changed = changedDuringReconcile;
+        if (changed != null) {
+            changed.addAll(postIds);
+        }
+    }
+
+    private void reconcileDrifts() {
+        changedDuringReconcile = ConcurrentHashMap.newKeySet();
+        try {
+            flush();
+            Map<Long, Long> drifts = findDrifts();
+            if (drifts.isEmpty()) {
+                log.info("Like count reconciliation found no drift");
+                return;
+            }
+            try {
+                Thread.sleep(reconcileSettle.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            flush();
+            drifts.keySet().removeAll(changedDuringReconcile);
+            drifts.keySet().removeAll(pendingDeltas.keySet());
+            List<Long> repairedIds = repair(drifts);
+            publishPostsChanged(repairedIds);
+            log.info("Like count reconciliation repaired {} posts", repairedIds.size());
+        } finally {
+            changedDuringReconcile = null;
+        }
+    }
+
+    // Read-only pass over id ranges; returns count(post_likes) - like_count for every drifted post
+    private Map<Long, Long> findDrifts() {
+        long maxId = jdbcTemplate.queryForObject("SELECT coalesce(max(id), 0) FROM posts", Long.class);
+        Map<Long, Long> drifts = new HashMap<>();
+        for (long from = 0; from < maxId; from += reconcileBatchSize) {
+            jdbcTemplate.query("""
+                    SELECT p.id, c.likes - p.like_count AS drift
+                    FROM posts p
+                    JOIN (SELECT p2.id, count(pl.id) AS likes
+                          FROM posts p2 LEFT JOIN post_likes pl ON pl.post_id = p2.id
+                          WHERE p2.id > ? AND p2.id <= ?
+                          GROUP BY p2.id) c ON c.id = p.id
+                    WHERE p.like_count <> c.likes""",
+                    rs -> {
+                        drifts.put(rs.getLong("id"), rs.getLong("drift"));
+                    },
+                    from, from + reconcileBatchSize);
+        }
+        return drifts;
+    }
+
+    // Only applies a drift that is still exactly what was observed, so a like committed meanwhile isn't counted twice
+    private List<Long> repair(Map<Long, Long> drifts) {
+        if (drifts.isEmpty()) {
+            return List.of();
+        }
+        List<Map.Entry<Long, Long>> entries = new ArrayList<>(drifts.entrySet());
+        int[][] updated = jdbcTemplate.batchUpdate("""
+                        UPDATE posts p SET like_count = like_count + ?
+                        WHERE p.id = ?
+                          AND (SELECT count(*) FROM post_likes pl WHERE pl.post_id = p.id) - p.like_count = ?""",
+                entries, entries.size(), (ps, drift) -> {
+                    ps.setLong(1, drift.getValue());
+                    ps.setLong(2, drift.getKey());
+                    ps.setLong(3, drift.getValue());
+                });
+        List<Long> repairedIds = new ArrayList<>();
+        for (int i = 0; i < entries.size(); i++) {
+            if (updated[0][i] > 0) {
+                repairedIds.add(entries.get(i).getKey());
+            }
+        }
+        return repairedIds;
+    }
+
+    private void publishPostsChanged(List<Long> postIds) {
+        if (!postIds.isEmpty()) {
+            kafkaTemplate.send(KafkaTopicConfig.POSTS_CHANGED_TOPIC, PostsChangedEvent.builder()
+                    .postIds(postIds)
+                    .build());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+}
@@ -0,0 +1,45 @@
+package com.codingshuttle.linkedin.posts_service.service;
+
+import com.codingshuttle.linkedin.posts_service.dto.PostDto;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.function.Function;
+
+/**
+ * Local read-through cache of {@link PostDto}s. Entries are bounded by size and TTL and are evicted
+ * on every replica when a {@code PostsChangedEvent} names them.
+ */
+@Component
+public class PostCache {
+
+    private final Cache<Long, PostDto> posts;
+
+    public PostCache(MeterRegistry meterRegistry,
+                     @Value("${posts.cache.max-size:50000}") long maxSize,
+                     @Value("${posts.cache.ttl:10m}") Duration ttl) {
+        this.posts = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, posts, "posts");
+        Gauge.builder("posts.cache.hit-ratio", posts, cache -> cache.stats().hitRate())
+                .register(meterRegistry);
+    }
+
+    public PostDto get(Long postId, Function<Long, PostDto> loader) {
+        return posts.get(postId, loader);
+    }
+
+    public void invalidateAll(Collection<Long> postIds) {
+        posts.invalidateAll(postIds);
+    }
+}
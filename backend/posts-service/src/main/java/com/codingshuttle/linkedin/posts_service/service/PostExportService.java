@@ -0,0 +1,167 @@
+package com.codingshuttle.linkedin.posts_service.service;
+
+import com.codingshuttle.linkedin.posts_service.exception.BadRequestException;
+import com.codingshuttle.linkedin.posts_service.repository.PostLikeRepository;
+import com.codingshuttle.linkedin.posts_service.repository.PostRepository;
+import com.codingshuttle.linkedin.posts_service.repository.projection.LikeExportProjection;
+import com.codingshuttle.linkedin.posts_service.repository.projection.PostExportProjection;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.OptionalLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Writes everything a user has in posts-service as NDJSON: their posts and the posts they liked, one
+ * object per line, ordered by post id. Both are read through database cursors and merged on the fly, so
+ * memory use doesn't depend on how much the user has. Since lines are ordered by post id, an interrupted
+ * export can be resumed from the last post id received.
+ */
+@Service
+@Slf4j
+public class PostExportService {
+
+    private static final Pattern RANGE = Pattern.compile("posts=(\\d+)-");
+    private static final Pattern CODING = Pattern.compile("\\s*([^;\\s]+)\\s*(?:;\\s*q\\s*=\\s*([0-9.]+))?.*");
+
+    private final PostRepository postRepository;
+    private final PostLikeRepository postLikeRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public PostExportService(PostRepository postRepository,
+                             PostLikeRepository postLikeRepository,
+                             ObjectMapper objectMapper,
+                             PlatformTransactionManager transactionManager) {
+        this.postRepository = postRepository;
+        this.postLikeRepository = postLikeRepository;
+        this.objectMapper = objectMapper;
+        // The streams have to be consumed inside a transaction for the driver to use a cursor
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * @param range a {@code Range} header value
+     * @return the first post id to export, or empty for a range unit other than {@code posts}, which
+     * RFC 9110 requires to be ignored
+     */
+    public static OptionalLong parseRange(String range) {
+        String trimmed = range.trim();
+        if (!trimmed.regionMatches(true, 0, "posts=", 0, "posts=".length())) {
+            return OptionalLong.empty();
+        }
+        Matcher matcher = RANGE.matcher(trimmed.toLowerCase(Locale.ROOT));
+        if (!matcher.matches()) {
+            throw new BadRequestException("Invalid range: " + range + ", expected posts=<postId>-");
+        }
+        try {
+            return OptionalLong.of(Long.parseLong(matcher.group(1)));
+        } catch (NumberFormatException e) {
+            throw new BadRequestException("Invalid range: " + range);
+        }
+    }
+
+    /**
+     * @return whether an {@code Accept-Encoding} header value allows gzip, i.e. lists {@code gzip} (or
+     * {@code *} when gzip isn't listed) with a non-zero quality value
+     */
+    public static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Double gzipQuality = null;
+        Double wildcardQuality = null;
+        for (String coding : acceptEncoding.split(",")) {
+            Matcher matcher = CODING.matcher(coding);
+            if (!matcher.matches()) {
+                continue;
+            }
+            String name = matcher.group(1).toLowerCase(Locale.ROOT);
+            double quality;
+            try {
+                quality = matcher.group(2) == null ? 1 : Double.parseDouble(matcher.group(2));
+            } catch (NumberFormatException e) {
+                continue;
+            }
+            if (name.equals("gzip") || name.equals("x-gzip")) {
+                gzipQuality = quality;
+            } else if (name.equals("*")) {
+                wildcardQuality = quality;
+            }
+        }
+        Double quality = gzipQuality != null ? gzipQuality : wildcardQuality;
+        return quality != null && quality > 0;
+    }
+
+    public void writeExport(Long userId, long fromPostId, boolean gzip, OutputStream out) throws IOException {
+        long start = System.currentTimeMillis();
+        OutputStream target = gzip ? new GZIPOutputStream(out, 64 * 1024) : out;
+        long lines;
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(target)) {
+            // Lines are terminated explicitly instead of separated by a space
+            generator.setRootValueSeparator(null);
+            lines = readOnlyTransaction.execute(status -> {
+                try (Stream<PostExportProjection> posts = postRepository.streamForExport(userId, fromPostId);
+                     Stream<LikeExportProjection> likes = postLikeRepository.streamForExport(userId, fromPostId)) {
+                    return writeLines(generator, posts.iterator(), likes.iterator());
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+        log.info("Exported {} lines for user {} from post {} in {} ms",
+                lines, userId, fromPostId, System.currentTimeMillis() - start);
+    }
+
+    // Merges the two id-ordered cursors; a user's own post comes before their like of it
+    private long writeLines(JsonGenerator generator, Iterator<PostExportProjection> posts,
+                            Iterator<LikeExportProjection> likes) throws IOException {
+        long lines = 0;
+        PostExportProjection post = posts.hasNext() ? posts.next() : null;
+        LikeExportProjection like = likes.hasNext() ? likes.next() : null;
+        while (post != null || like != null) {
+            if (like == null || (post != null && post.getId() <= like.getPostId())) {
+                writePost(generator, post);
+                post = posts.hasNext() ? posts.next() : null;
+            } else {
+                writeLike(generator, like);
+                like = likes.hasNext() ? likes.next() : null;
+            }
+            lines++;
+        }
+        return lines;
+    }
+
+    private static void writePost(JsonGenerator generator, PostExportProjection post) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "post");
+        generator.writeNumberField("id", post.getId());
+        generator.writeObjectField("createdAt", post.getCreatedAt());
+        generator.writeNumberField("likeCount", post.getLikeCount());
+        generator.writeStringField("content", post.getContent());
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+
+    private static void writeLike(JsonGenerator generator, LikeExportProjection like) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "like");
+        generator.writeNumberField("postId", like.getPostId());
+        generator.writeObjectField("createdAt", like.getCreatedAt());
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+}
@@ -1,18 +1,29 @@
 package com.codingshuttle.linkedin.posts_service.service;
 
 import com.codingshuttle.linkedin.event.PostLikedEvent;
-import com.codingshuttle.linkedin.posts_service.entity.PostLike;
+import com.codingshuttle.linkedin.posts_service.dto.CursorPageDto;
+import com.codingshuttle.linkedin.posts_service.dto.LikeCountDto;
+import com.codingshuttle.linkedin.posts_service.dto.LikeStatusDto;
+import com.codingshuttle.linkedin.posts_service.dto.LikerDto;
 import com.codingshuttle.linkedin.posts_service.exception.BadRequestException;
 import com.codingshuttle.linkedin.posts_service.exception.ResourceNotFoundException;
 import com.codingshuttle.linkedin.posts_service.repository.PostLikeRepository;
 import com.codingshuttle.linkedin.posts_service.repository.PostRepository;
+import com.codingshuttle.linkedin.posts_service.repository.projection.LikerProjection;
+import com.codingshuttle.linkedin.posts_service.util.KeysetCursor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.modelmapper.ModelMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Service;
 
-import java.util.Optional;
+import java.util.Base64;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
@@ -23,17 +34,24 @@ public class PostLikeService {
     private final PostRepository postRepository;
     private final ModelMapper modelMapper;
     private final KafkaTemplate<Long, PostLikedEvent> kafkaTemplate;
+    private final LikeCountAggregator likeCountAggregator;
 
-    public void likePost(Long postId, long userId) {
-        postRepository.findById(postId)
-                .orElseThrow(() -> new ResourceNotFoundException("Post not found with id: " + postId));
+    @Value("${posts.likes.status-max-ids:500}")
+    private int statusMaxIds;
+
+    @Value("${posts.page.default-size:20}")
+    private int defaultPageSize;
 
-        Optional<PostLike> postLike = postLikeRepository.findByPostIdAndUserId(postId, userId);
-        if (postLike.isPresent()) {
-            throw new BadRequestException("Cannot like a post more than once");
+    @Value("${posts.page.max-size:100}")
+    private int maxPageSize;
+
+    public void likePost(Long postId, long userId) {
+        if (postLikeRepository.insertIfAbsent(postId, userId) == 0) {
+            ensurePostExists(postId);
+            log.info("Post with id {} is already liked by user with id {}", postId, userId);
+            return;
         }
-        PostLike newLike = PostLike.builder().postId(postId).userId(userId).build();
-        postLikeRepository.save(newLike);
+        likeCountAggregator.increment(postId);
         kafkaTemplate.send("post-liked-topic", PostLikedEvent.builder()
                 .creatorId(userId)
                 .likedByUserId(userId)
@@ -43,14 +61,72 @@ public class PostLikeService {
     }
 
     public void unlikePost(Long postId, long userId) {
-        postRepository.findById(postId)
+        if (postLikeRepository.deleteIfPresent(postId, userId) == 0) {
+            ensurePostExists(postId);
+            log.info("Post with id {} is not liked by user with id {}", postId, userId);
+            return;
+        }
+        likeCountAggregator.decrement(postId);
+        log.info("Post with id {} unliked by user with id {}", postId, userId);
+    }
+
+    public LikeStatusDto getLikeStatus(List<Long> postIds, long userId) {
+        if (postIds.size() > statusMaxIds) {
+            throw new BadRequestException("At most " + statusMaxIds + " post ids can be checked at once");
+        }
+        BitSet liked = new BitSet(postIds.size());
+        if (!postIds.isEmpty()) {
+            Set<Long> likedPostIds = new HashSet<>(postLikeRepository.findLikedPostIds(userId, new HashSet<>(postIds)));
+            for (int i = 0; i < postIds.size(); i++) {
+                if (likedPostIds.contains(postIds.get(i))) {
+                    liked.set(i);
+                }
+            }
+        }
+        return new LikeStatusDto(postIds.size(), Base64.getEncoder().encodeToString(liked.toByteArray()));
+    }
+
+    public CursorPageDto<LikerDto> getLikers(Long postId, String cursor, Integer size) {
+        int pageSize = size == null ? defaultPageSize : Math.clamp(size, 1, maxPageSize);
+        // One extra row tells whether there is a next page
+        Limit limit = Limit.of(pageSize + 1);
+        List<LikerProjection> likers;
+        if (cursor == null || cursor.isBlank()) {
+            likers = postLikeRepository.findLikers(postId, limit);
+        } else {
+            KeysetCursor after = KeysetCursor.decode(cursor);
+            likers = postLikeRepository.findLikersBefore(postId, after.createdAt(), after.id(), limit);
+        }
+        if (likers.isEmpty()) {
+            ensurePostExists(postId);
+        }
+
+        String nextCursor = null;
+        if (likers.size() > pageSize) {
+            likers = likers.subList(0, pageSize);
+            LikerProjection last = likers.getLast();
+            nextCursor = new KeysetCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+        List<LikerDto> items = likers.stream()
+                .map(liker -> new LikerDto(liker.getUserId(), liker.getCreatedAt()))
+                .toList();
+        return new CursorPageDto<>(items, nextCursor);
+    }
+
+    /**
+     * Served from {@code posts.like_count} rather than counting {@code post_likes}, so it costs one row
+     * however popular the post is. It trails recent likes by up to {@code posts.like-count.flush-interval}.
+     */
+    public LikeCountDto countLikes(Long postId) {
+        long count = postRepository.findLikeCountById(postId)
                 .orElseThrow(() -> new ResourceNotFoundException("Post not found with id: " + postId));
+        return new LikeCountDto(postId, count);
+    }
 
-        Optional<PostLike> postLike = postLikeRepository.findByPostIdAndUserId(postId, userId);
-        if (postLike.isEmpty()) {
-            throw new BadRequestException("Cannot unlike a post which is not liked");
+    // Only consulted when nothing changed or nothing was found, to tell those cases apart from an unknown post
+    private void ensurePostExists(Long postId) {
+        if (!postRepository.existsById(postId)) {
+            throw new ResourceNotFoundException("Post not found with id: " + postId);
         }
-        postLikeRepository.deleteByPostIdAndUserId(postId, userId);
-        log.info("Post with id {} unliked by user with id {}", postId, userId);
     }
 }
@@ -0,0 +1,184 @@
+package com.codingshuttle.linkedin.posts_service.service;
+
+import com.codingshuttle.linkedin.event.PostCreatedEvent;
+import com.codingshuttle.linkedin.posts_service.dto.PostDto;
+import com.codingshuttle.linkedin.posts_service.dto.PostSearchHitDto;
+import com.codingshuttle.linkedin.posts_service.exception.BadRequestException;
+import com.codingshuttle.linkedin.posts_service.repository.PostRepository;
+import com.codingshuttle.linkedin.posts_service.repository.projection.PostContentProjection;
+import com.codingshuttle.linkedin.posts_service.util.InvertedIndex;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Full-text search over post content, served from an in-memory {@link InvertedIndex}. On startup the
+ * index is restored from the last on-disk snapshot and caught up by streaming the posts created since;
+ * after that it is kept current from {@code post-created-topic}. Both catch-up paths overlap what the
+ * index may already have, and indexing a post twice is a no-op:
+ * <ul>
+ *     <li>the database stream starts {@code posts.search.restream-ids} below the highest indexed id, since
+ *     a lower id can commit after a higher one;</li>
+ *     <li>the topic is replayed from {@code posts.search.replay-overlap} before startup, so posts committed
+ *     after the database stream but before the consumer got its partitions are not lost.</li>
+ * </ul>
+ */
+@Service
+@Slf4j
+public class PostSearchService {
+
+    private final PostRepository postRepository;
+    private final PostService postService;
+    private final Path snapshotPath;
+    private final int defaultResults;
+    private final int maxResults;
+    private final long restreamIds;
+    private final long replayFrom;
+
+    private volatile InvertedIndex index = new InvertedIndex();
+    // Events that arrive while the index is still being bootstrapped; guarded by this
+    private final List<PostCreatedEvent> pendingEvents = new ArrayList<>();
+    private boolean bootstrapped;
+
+    public PostSearchService(PostRepository postRepository,
+                             PostService postService,
+                             MeterRegistry meterRegistry,
+                             @Value("${posts.search.snapshot-path:data/search-index.bin}") Path snapshotPath,
+                             @Value("${posts.search.default-results:20}") int defaultResults,
+                             @Value("${posts.search.max-results:100}") int maxResults,
+                             @Value("${posts.search.restream-ids:1000}") long restreamIds,
+                             @Value("${posts.search.replay-overlap:1m}") Duration replayOverlap) {
+        this.postRepository = postRepository;
+        this.postService = postService;
+        this.snapshotPath = snapshotPath;
+        this.defaultResults = defaultResults;
+        this.maxResults = maxResults;
+        this.restreamIds = restreamIds;
+        // Before the database stream starts and before any listener can be assigned partitions
+        this.replayFrom = System.currentTimeMillis() - replayOverlap.toMillis();
+        Gauge.builder("posts.search.documents", this, service -> service.index.getDocumentCount())
+                .register(meterRegistry);
+        Gauge.builder("posts.search.terms", this, service -> service.index.getTermCount())
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void bootstrap() {
+        long start = System.currentTimeMillis();
+        InvertedIndex restored = readSnapshot();
+        if (restored != null) {
+            index = restored;
+        }
+        long restoredDocuments = index.getDocumentCount();
+        long afterId = Math.max(0, index.getMaxDocId() - restreamIds);
+        try (Stream<PostContentProjection> posts = postRepository.streamContentAfter(afterId)) {
+            posts.forEach(post -> index.add(post.getId(), post.getContent()));
+        }
+        synchronized (this) {
+            pendingEvents.forEach(event -> index.add(event.getPostId(), event.getContent()));
+            pendingEvents.clear();
+            bootstrapped = true;
+        }
+        log.info("Search index ready with {} posts ({} from snapshot) in {} ms",
+                index.getDocumentCount(), restoredDocuments, System.currentTimeMillis() - start);
+    }
+
+    /**
+     * @return timestamp from which {@code post-created-topic} has to be replayed on first assignment
+     */
+    public long getReplayFrom() {
+        return replayFrom;
+    }
+
+    public void indexPost(PostCreatedEvent event) {
+        synchronized (this) {
+            if (!bootstrapped) {
+                pendingEvents.add(event);
+                return;
+            }
+        }
+        index.add(event.getPostId(), event.getContent());
+    }
+
+    public List<PostSearchHitDto> search(String query, Integer limit) {
+        if (query == null || query.isBlank()) {
+            throw new BadRequestException("Search query is required");
+        }
+        int resultLimit = limit == null ? defaultResults : Math.clamp(limit, 1, maxResults);
+        List<InvertedIndex.Hit> hits = index.search(query, resultLimit);
+
+        Map<Long, PostDto> posts = postService.getPostsByIds(hits.stream().map(InvertedIndex.Hit::docId).toList())
+                .stream()
+                .collect(Collectors.toMap(PostDto::getId, Function.identity()));
+        return hits.stream()
+                .filter(hit -> posts.containsKey(hit.docId()))
+                .map(hit -> new PostSearchHitDto(posts.get(hit.docId()), hit.score()))
+                .toList();
+    }
+
+    @Scheduled(fixedDelayString = "${posts.search.snapshot-interval:10m}",
+            initialDelayString = "${posts.search.snapshot-interval:10m}")
+    public void writeSnapshot() {
+        synchronized (this) {
+            if (!bootstrapped) {
+                return;
+            }
+        }
+        // Write to a temporary file and swap it in, so that a crash never leaves a truncated snapshot
+        Path temporary = snapshotPath.resolveSibling(snapshotPath.getFileName() + ".tmp");
+        try {
+            Path directory = snapshotPath.toAbsolutePath().getParent();
+            if (directory != null) {
+                Files.createDirectories(directory);
+            }
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(temporary))) {
+                index.writeTo(out);
+            }
+            Files.move(temporary, snapshotPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            log.info("Wrote search index snapshot with {} posts to {}", index.getDocumentCount(), snapshotPath);
+        } catch (IOException e) {
+            log.warn("Failed to write search index snapshot to {}", snapshotPath, e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        writeSnapshot();
+    }
+
+    private InvertedIndex readSnapshot() {
+        if (!Files.exists(snapshotPath)) {
+            return null;
+        }
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(snapshotPath))) {
+            return InvertedIndex.readFrom(in);
+        } catch (IOException e) {
+            log.warn("Ignoring unreadable search index snapshot {}, rebuilding from the database", snapshotPath, e);
+            return null;
+        }
+    }
+}
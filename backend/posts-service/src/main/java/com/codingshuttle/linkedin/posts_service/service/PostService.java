@@ -1,29 +1,50 @@
 package com.codingshuttle.linkedin.posts_service.service;
 
 import com.codingshuttle.linkedin.event.PostCreatedEvent;
+import com.codingshuttle.linkedin.posts_service.dto.CursorPageDto;
 import com.codingshuttle.linkedin.posts_service.dto.PostCreateRequestDto;
 import com.codingshuttle.linkedin.posts_service.dto.PostDto;
 import com.codingshuttle.linkedin.posts_service.entity.Post;
 import com.codingshuttle.linkedin.posts_service.exception.ResourceNotFoundException;
 import com.codingshuttle.linkedin.posts_service.repository.PostLikeRepository;
 import com.codingshuttle.linkedin.posts_service.repository.PostRepository;
+import com.codingshuttle.linkedin.posts_service.repository.projection.PostLikeProjection;
+import com.codingshuttle.linkedin.posts_service.util.KeysetCursor;
 import lombok.RequiredArgsConstructor;
 import org.modelmapper.ModelMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class PostService {
 
+    // Keeps the IN list well below the driver's bind parameter limit
+    static final int LIKES_QUERY_CHUNK_SIZE = 1000;
+
     private final PostRepository postRepository;
     private final PostLikeRepository postLikeRepository;
     private final ModelMapper modelMapper;
+    private final PostCache postCache;
 
     private final KafkaTemplate<Long, PostCreatedEvent> kafkaTemplate;
 
+    @Value("${posts.page.default-size:20}")
+    private int defaultPageSize;
+
+    @Value("${posts.page.max-size:100}")
+    private int maxPageSize;
+
     public PostDto createPost(PostCreateRequestDto postCreateRequestDto, long userId) {
         Post post = modelMapper.map(postCreateRequestDto, Post.class);
         post.setUserId(userId);
@@ -37,21 +58,71 @@ public class PostService {
     }
 
     public PostDto getPostById(Long postId) {
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new ResourceNotFoundException("Post not found with id: " + postId));
-        return modelMapper.map(post, PostDto.class);
+        return postCache.get(postId, id -> {
+            Post post = postRepository.findById(id)
+                    .orElseThrow(() -> new ResourceNotFoundException("Post not found with id: " + id));
+            return modelMapper.map(post, PostDto.class);
+        });
     }
 
-    public List<PostDto> getAllPostsForUser(Long userId) {
+    public List<PostDto> getAllPostsForUser(Long userId, boolean includeLikers) {
         List<Post> posts = postRepository.findAllByUserId(userId);
+        return toPostDtos(posts, includeLikers);
+    }
+
+    /**
+     * Loads the given posts in the given order; unknown ids are skipped.
+     */
+    public List<PostDto> getPostsByIds(List<Long> postIds) {
+        Map<Long, Post> postsById = postRepository.findAllById(postIds).stream()
+                .collect(Collectors.toMap(Post::getId, Function.identity()));
+        List<Post> posts = postIds.stream()
+                .map(postsById::get)
+                .filter(Objects::nonNull)
+                .toList();
+        return toPostDtos(posts, false);
+    }
+
+    public CursorPageDto<PostDto> getPostsForUser(Long userId, String cursor, Integer size, boolean includeLikers) {
+        int pageSize = size == null ? defaultPageSize : Math.clamp(size, 1, maxPageSize);
+        // One extra row tells whether there is a next page
+        Limit limit = Limit.of(pageSize + 1);
+        List<Post> posts;
+        if (cursor == null || cursor.isBlank()) {
+            posts = postRepository.findByUserIdOrderByCreatedAtDescIdDesc(userId, limit);
+        } else {
+            KeysetCursor after = KeysetCursor.decode(cursor);
+            posts = postRepository.findByUserIdBefore(userId, after.createdAt(), after.id(), limit);
+        }
+
+        String nextCursor = null;
+        if (posts.size() > pageSize) {
+            posts = posts.subList(0, pageSize);
+            Post last = posts.getLast();
+            nextCursor = new KeysetCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+        return new CursorPageDto<>(toPostDtos(posts, includeLikers), nextCursor);
+    }
+
+    // Loads the likers of all posts with one query per chunk of post ids instead of one per post
+    private List<PostDto> toPostDtos(List<Post> posts, boolean includeLikers) {
+        if (!includeLikers) {
+            return posts.stream().map(post -> modelMapper.map(post, PostDto.class)).toList();
+        }
+
+        Map<Long, List<Long>> likedByUserIds = new HashMap<>();
+        List<Long> postIds = posts.stream().map(Post::getId).toList();
+        for (int from = 0; from < postIds.size(); from += LIKES_QUERY_CHUNK_SIZE) {
+            List<Long> chunk = postIds.subList(from, Math.min(postIds.size(), from + LIKES_QUERY_CHUNK_SIZE));
+            for (PostLikeProjection like : postLikeRepository.findLikersByPostIdIn(chunk)) {
+                likedByUserIds.computeIfAbsent(like.getPostId(), postId -> new ArrayList<>()).add(like.getUserId());
+            }
+        }
+
         return posts.stream()
                 .map(post -> {
                     PostDto postDto = modelMapper.map(post, PostDto.class);
-                    List<Long> likedByUserIds = postLikeRepository.findByPostId(post.getId())
-                            .stream()
-                            .map(postLike -> postLike.getUserId())
-                            .toList();
-                    postDto.setLikedByUserIds(likedByUserIds);
+                    postDto.setLikedByUserIds(likedByUserIds.getOrDefault(post.getId(), List.of()));
                     return postDto;
                 })
                 .toList();
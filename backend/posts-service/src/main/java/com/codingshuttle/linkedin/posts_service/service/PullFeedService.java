@@ -0,0 +1,171 @@
+package com.codingshuttle.linkedin.posts_service.service;
+
+import com.codingshuttle.linkedin.posts_service.client.ConnectionsClient;
+import com.codingshuttle.linkedin.posts_service.dto.CursorPageDto;
+import com.codingshuttle.linkedin.posts_service.dto.PersonDto;
+import com.codingshuttle.linkedin.posts_service.dto.PostDto;
+import com.codingshuttle.linkedin.posts_service.repository.RecentPostsRepository;
+import com.codingshuttle.linkedin.posts_service.repository.projection.FeedCandidate;
+import com.codingshuttle.linkedin.posts_service.util.KeysetCursor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fan-out-on-read feed for users whose networks are too large to push into. The newest posts of each
+ * connection are fetched a few at a time (authors in parallel chunks) and merged with a heap keyed on
+ * each author's next post; an author is only queried again once the merge has consumed everything
+ * fetched for them.
+ */
+@Service
+@Slf4j
+public class PullFeedService {
+
+    private static final Comparator<FeedCandidate> NEWEST_FIRST = Comparator
+            .comparing(FeedCandidate::createdAt)
+            .thenComparing(FeedCandidate::postId)
+            .reversed();
+
+    private final ConnectionsClient connectionsClient;
+    private final RecentPostsRepository recentPostsRepository;
+    private final PostService postService;
+    private final ThreadPoolExecutor executor;
+    private final int authorsPerQuery;
+    private final int postsPerAuthor;
+    private final int defaultPageSize;
+    private final int maxPageSize;
+
+    public PullFeedService(ConnectionsClient connectionsClient,
+                           RecentPostsRepository recentPostsRepository,
+                           PostService postService,
+                           MeterRegistry meterRegistry,
+                           @Value("${posts.feed.pull.threads:4}") int threads,
+                           @Value("${posts.feed.pull.queue-capacity:100}") int queueCapacity,
+                           @Value("${posts.feed.pull.authors-per-query:200}") int authorsPerQuery,
+                           @Value("${posts.feed.pull.posts-per-author:5}") int postsPerAuthor,
+                           @Value("${posts.page.default-size:20}") int defaultPageSize,
+                           @Value("${posts.page.max-size:100}") int maxPageSize) {
+        this.connectionsClient = connectionsClient;
+        this.recentPostsRepository = recentPostsRepository;
+        this.postService = postService;
+        this.authorsPerQuery = authorsPerQuery;
+        this.postsPerAuthor = postsPerAuthor;
+        this.defaultPageSize = defaultPageSize;
+        this.maxPageSize = maxPageSize;
+        // Bounded so that a burst of large feeds can't hog the connection pool; overflow runs on the caller
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("pull-feed-"),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        ExecutorServiceMetrics.monitor(meterRegistry, executor, "pull-feed");
+    }
+
+    public CursorPageDto<PostDto> getFeed(Long userId, String cursor, Integer size) {
+        int pageSize = size == null ? defaultPageSize : Math.clamp(size, 1, maxPageSize);
+        KeysetCursor before = cursor == null || cursor.isBlank() ? null : KeysetCursor.decode(cursor);
+        // Same audience as the push feed: the user's own posts plus those of their connections
+        List<Long> authorIds = new ArrayList<>();
+        authorIds.add(userId);
+        for (PersonDto connection : connectionsClient.getFirstDegreeConnections(userId)) {
+            authorIds.add(connection.getUserId());
+        }
+
+        PriorityQueue<AuthorPosts> heap = new PriorityQueue<>(Math.max(1, authorIds.size()),
+                Comparator.comparing(AuthorPosts::peek, NEWEST_FIRST));
+        for (AuthorPosts authorPosts : fetchFirstPosts(authorIds, before)) {
+            heap.add(authorPosts);
+        }
+
+        List<FeedCandidate> page = new ArrayList<>(pageSize);
+        while (page.size() < pageSize && !heap.isEmpty()) {
+            AuthorPosts authorPosts = heap.poll();
+            FeedCandidate candidate = authorPosts.poll();
+            page.add(candidate);
+            if (authorPosts.isEmpty() && authorPosts.mayHaveMore()) {
+                authorPosts.refill(recentPostsRepository.findRecentPosts(List.of(authorPosts.authorId),
+                        new KeysetCursor(candidate.createdAt(), candidate.postId()), postsPerAuthor));
+            }
+            if (!authorPosts.isEmpty()) {
+                heap.add(authorPosts);
+            }
+        }
+
+        FeedCandidate last = page.isEmpty() ? null : page.getLast();
+        String nextCursor = heap.isEmpty() || last == null ? null : new KeysetCursor(last.createdAt(), last.postId()).encode();
+        return new CursorPageDto<>(postService.getPostsByIds(page.stream().map(FeedCandidate::postId).toList()),
+                nextCursor);
+    }
+
+    private List<AuthorPosts> fetchFirstPosts(List<Long> authorIds, KeysetCursor before) {
+        List<CompletableFuture<List<FeedCandidate>>> chunks = new ArrayList<>();
+        for (int from = 0; from < authorIds.size(); from += authorsPerQuery) {
+            List<Long> chunk = authorIds.subList(from, Math.min(authorIds.size(), from + authorsPerQuery));
+            chunks.add(CompletableFuture.supplyAsync(
+                    () -> recentPostsRepository.findRecentPosts(chunk, before, postsPerAuthor), executor));
+        }
+
+        // Rows come back grouped by author, newest first
+        Map<Long, AuthorPosts> byAuthor = new LinkedHashMap<>();
+        for (CompletableFuture<List<FeedCandidate>> chunk : chunks) {
+            for (FeedCandidate candidate : chunk.join()) {
+                byAuthor.computeIfAbsent(candidate.userId(), AuthorPosts::new).posts.add(candidate);
+            }
+        }
+        byAuthor.values().forEach(authorPosts -> authorPosts.fetched = authorPosts.posts.size());
+        return new ArrayList<>(byAuthor.values());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private class AuthorPosts {
+        private final Long authorId;
+        private final Deque<FeedCandidate> posts = new ArrayDeque<>();
+        // Size of the last fetch; a short fetch means the author has nothing older
+        private int fetched;
+
+        AuthorPosts(Long authorId) {
+            this.authorId = authorId;
+        }
+
+        FeedCandidate peek() {
+            return posts.peekFirst();
+        }
+
+        FeedCandidate poll() {
+            return posts.pollFirst();
+        }
+
+        boolean isEmpty() {
+            return posts.isEmpty();
+        }
+
+        boolean mayHaveMore() {
+            return fetched == postsPerAuthor;
+        }
+
+        void refill(List<FeedCandidate> olderPosts) {
+            posts.addAll(olderPosts);
+            fetched = olderPosts.size();
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.codingshuttle.linkedin.posts_service.service;
+
+import com.codingshuttle.linkedin.posts_service.dto.TrendingPostDto;
+import com.codingshuttle.linkedin.posts_service.dto.TrendingWindow;
+import com.codingshuttle.linkedin.posts_service.util.SlidingWindowHeavyHitters;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Most liked posts over the last 5 minutes, hour and day, counted from {@code post-liked-topic} in fixed
+ * memory: minute buckets serve the 5m and 1h windows, hour buckets the 24h window. Rankings are
+ * recomputed every {@code posts.trending.refresh-interval} so that reads are a map lookup. Unlikes are
+ * not subtracted.
+ */
+@Service
+@Slf4j
+public class TrendingService {
+
+    private static final int MINUTES_KEPT = 60;
+    private static final int HOURS_KEPT = 24;
+
+    private final SlidingWindowHeavyHitters minutes;
+    private final SlidingWindowHeavyHitters hours;
+    private final int topK;
+    private final int defaultSize;
+
+    private volatile Map<TrendingWindow, List<TrendingPostDto>> rankings = emptyRankings();
+
+    public TrendingService(@Value("${posts.trending.top-k:100}") int topK,
+                           @Value("${posts.trending.default-size:10}") int defaultSize,
+                           @Value("${posts.trending.sketch-width:2048}") int sketchWidth,
+                           @Value("${posts.trending.sketch-depth:4}") int sketchDepth,
+                           @Value("${posts.trending.candidates-per-bucket:256}") int candidatesPerBucket) {
+        this.topK = topK;
+        this.defaultSize = defaultSize;
+        this.minutes = new SlidingWindowHeavyHitters(Duration.ofMinutes(1), MINUTES_KEPT,
+                sketchWidth, sketchDepth, candidatesPerBucket);
+        this.hours = new SlidingWindowHeavyHitters(Duration.ofHours(1), HOURS_KEPT,
+                sketchWidth, sketchDepth, candidatesPerBucket);
+    }
+
+    public synchronized void recordLike(long postId) {
+        long now = System.currentTimeMillis();
+        minutes.add(postId, now);
+        hours.add(postId, now);
+    }
+
+    public List<TrendingPostDto> getTrending(TrendingWindow window, Integer size) {
+        List<TrendingPostDto> ranking = rankings.get(window);
+        int limit = size == null ? defaultSize : Math.clamp(size, 1, topK);
+        return ranking.size() <= limit ? ranking : ranking.subList(0, limit);
+    }
+
+    @Scheduled(fixedDelayString = "${posts.trending.refresh-interval:1s}")
+    public void refresh() {
+        long now = System.currentTimeMillis();
+        Map<TrendingWindow, List<TrendingPostDto>> refreshed = new EnumMap<>(TrendingWindow.class);
+        synchronized (this) {
+            refreshed.put(TrendingWindow.FIVE_MINUTES, toDtos(minutes.top(5, topK, now)));
+            refreshed.put(TrendingWindow.ONE_HOUR, toDtos(minutes.top(MINUTES_KEPT, topK, now)));
+            refreshed.put(TrendingWindow.ONE_DAY, toDtos(hours.top(HOURS_KEPT, topK, now)));
+        }
+        rankings = refreshed;
+    }
+
+    private static List<TrendingPostDto> toDtos(List<SlidingWindowHeavyHitters.Hit> hits) {
+        return hits.stream()
+                .map(hit -> new TrendingPostDto(hit.key(), hit.count()))
+                .toList();
+    }
+
+    private static Map<TrendingWindow, List<TrendingPostDto>> emptyRankings() {
+        Map<TrendingWindow, List<TrendingPostDto>> empty = new EnumMap<>(TrendingWindow.class);
+        for (TrendingWindow window : TrendingWindow.values()) {
+            empty.put(window, List.of());
+        }
+        return empty;
+    }
+}
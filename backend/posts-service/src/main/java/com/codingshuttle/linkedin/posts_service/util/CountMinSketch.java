@@ -0,0 +1,84 @@
+package com.codingshuttle.linkedin.posts_service.util;
+
+import java.util.Arrays;
+
+/**
+ * Count-Min Sketch over {@code long} keys. Estimates never undercount; with width {@code w} and depth
+ * {@code d} they overcount by at most {@code e / w * total} with probability {@code 1 - e^-d}. Sketches of
+ * the same shape can be summed with {@link #merge}. Not thread-safe.
+ */
+public class CountMinSketch {
+
+    private final int width;
+    private final int depth;
+    private final int mask;
+    // Row-major, depth rows of width counters
+    private final long[] counters;
+    private long total;
+
+    /**
+     * @param width rounded up to a power of two
+     */
+    public CountMinSketch(int width, int depth) {
+        if (width < 1 || depth < 1) {
+            throw new IllegalArgumentException("Width and depth must be positive");
+        }
+        this.width = width == 1 ? 1 : Integer.highestOneBit(width - 1) << 1;
+        this.depth = depth;
+        this.mask = this.width - 1;
+        this.counters = new long[this.width * depth];
+    }
+
+    public void add(long key, long count) {
+        long hash = mix(key);
+        int h1 = (int) hash;
+        // Odd, so that no two rows can land on the same column
+        int h2 = (int) (hash >>> 32) | 1;
+        for (int row = 0; row < depth; row++) {
+            counters[row * width + ((h1 + row * h2) & mask)] += count;
+        }
+        total += count;
+    }
+
+    public long estimate(long key) {
+        long hash = mix(key);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32) | 1;
+        long min = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            min = Math.min(min, counters[row * width + ((h1 + row * h2) & mask)]);
+        }
+        return min;
+    }
+
+    public void merge(CountMinSketch other) {
+        if (other.width != width || other.depth != depth) {
+            throw new IllegalArgumentException("Only sketches of the same shape can be merged");
+        }
+        for (int i = 0; i < counters.length; i++) {
+            counters[i] += other.counters[i];
+        }
+        total += other.total;
+    }
+
+    public void clear() {
+        Arrays.fill(counters, 0);
+        total = 0;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    // SplitMix64 finalizer; the two halves serve as independent hashes (Kirsch-Mitzenmacher)
+    private static long mix(long key) {
+        long z = key + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
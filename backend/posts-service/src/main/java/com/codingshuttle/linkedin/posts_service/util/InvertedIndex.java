@@ -0,0 +1,176 @@
+package com.codingshuttle.linkedin.posts_service.util;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory inverted index with BM25 ranking. Documents are only ever added; writes take a short
+ * exclusive lock, searches share a read lock. Indexed doc ids are kept in a bitmap, so re-adding a
+ * known document is an O(1) no-op.
+ */
+public class InvertedIndex {
+
+    private static final int SNAPSHOT_VERSION = 1;
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private final Map<String, PostingList> postings = new HashMap<>();
+    // Not part of the snapshot, rebuilt from the postings when it is read
+    private final LongBitmap indexedDocIds = new LongBitmap();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private long documentCount;
+    private long totalLength;
+    private long maxDocId;
+
+    /**
+     * @return false if the document was already indexed or has no searchable terms
+     */
+    public boolean add(long docId, String text) {
+        List<String> tokens = Tokenizer.tokenize(text);
+        Map<String, Integer> termFrequencies = new HashMap<>();
+        for (String token : tokens) {
+            termFrequencies.merge(token, 1, Integer::sum);
+        }
+
+        lock.writeLock().lock();
+        try {
+            if (indexedDocIds.contains(docId)) {
+                return false;
+            }
+            maxDocId = Math.max(maxDocId, docId);
+            if (tokens.isEmpty()) {
+                // Term-less documents are never stored, so there is nothing to duplicate
+                return false;
+            }
+            termFrequencies.forEach((term, frequency) ->
+                    postings.computeIfAbsent(term, t -> new PostingList()).add(docId, frequency, tokens.size()));
+            indexedDocIds.add(docId);
+            documentCount++;
+            totalLength += tokens.size();
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<Hit> search(String query, int limit) {
+        LinkedHashSet<String> terms = new LinkedHashSet<>(Tokenizer.tokenize(query));
+        Map<Long, Double> scores = new HashMap<>();
+
+        lock.readLock().lock();
+        try {
+            if (documentCount == 0) {
+                return List.of();
+            }
+            double averageLength = (double) totalLength / documentCount;
+            for (String term : terms) {
+                PostingList postingList = postings.get(term);
+                if (postingList == null) {
+                    continue;
+                }
+                int documentFrequency = postingList.size();
+                double idf = Math.log(1 + (documentCount - documentFrequency + 0.5) / (documentFrequency + 0.5));
+                postingList.forEach((docId, termFrequency, documentLength) -> {
+                    double norm = K1 * (1 - B + B * documentLength / averageLength);
+                    double score = idf * termFrequency * (K1 + 1) / (termFrequency + norm);
+                    scores.merge(docId, score, Double::sum);
+                });
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        // Min-heap of the best hits seen so far
+        Comparator<Hit> byScore = Comparator.comparingDouble(Hit::score).thenComparingLong(Hit::docId);
+        PriorityQueue<Hit> top = new PriorityQueue<>(limit + 1, byScore);
+        scores.forEach((docId, score) -> {
+            top.add(new Hit(docId, score));
+            if (top.size() > limit) {
+                top.poll();
+            }
+        });
+        List<Hit> hits = new ArrayList<>(top);
+        hits.sort(byScore.reversed());
+        return hits;
+    }
+
+    public long getMaxDocId() {
+        lock.readLock().lock();
+        try {
+            return maxDocId;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long getDocumentCount() {
+        lock.readLock().lock();
+        try {
+            return documentCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int getTermCount() {
+        lock.readLock().lock();
+        try {
+            return postings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void writeTo(OutputStream outputStream) throws IOException {
+        DataOutputStream out = new DataOutputStream(outputStream);
+        lock.readLock().lock();
+        try {
+            out.writeInt(SNAPSHOT_VERSION);
+            out.writeLong(documentCount);
+            out.writeLong(totalLength);
+            out.writeLong(maxDocId);
+            out.writeInt(postings.size());
+            for (Map.Entry<String, PostingList> entry : postings.entrySet()) {
+                out.writeUTF(entry.getKey());
+                entry.getValue().writeTo(out);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        out.flush();
+    }
+
+    public static InvertedIndex readFrom(InputStream inputStream) throws IOException {
+        DataInputStream in = new DataInputStream(inputStream);
+        int version = in.readInt();
+        if (version != SNAPSHOT_VERSION) {
+            throw new IOException("Unsupported index snapshot version: " + version);
+        }
+        InvertedIndex index = new InvertedIndex();
+        index.documentCount = in.readLong();
+        index.totalLength = in.readLong();
+        index.maxDocId = in.readLong();
+        int terms = in.readInt();
+        for (int i = 0; i < terms; i++) {
+            String term = in.readUTF();
+            PostingList postingList = PostingList.readFrom(in);
+            postingList.forEach((docId, termFrequency, documentLength) -> index.indexedDocIds.add(docId));
+            index.postings.put(term, postingList);
+        }
+        return index;
+    }
+
+    public record Hit(long docId, double score) {
+    }
+}
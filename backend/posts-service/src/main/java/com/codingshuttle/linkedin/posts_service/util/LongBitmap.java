@@ -0,0 +1,45 @@
+package com.codingshuttle.linkedin.posts_service.util;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Set of {@code long}s as a bitmap split into pages of 65536 bits (8 KB) that are allocated on first
+ * use. Membership is O(1); dense values such as post ids cost about one bit each. Not thread-safe.
+ */
+public class LongBitmap {
+
+    private static final int PAGE_SHIFT = 16;
+    private static final int PAGE_MASK = (1 << PAGE_SHIFT) - 1;
+
+    private final Map<Long, long[]> pages = new HashMap<>();
+    private long size;
+
+    /**
+     * @return false if the value was already present
+     */
+    public boolean add(long value) {
+        long[] page = pages.computeIfAbsent(value >>> PAGE_SHIFT, p -> new long[(PAGE_MASK + 1) / Long.SIZE]);
+        int bit = (int) (value & PAGE_MASK);
+        long mask = 1L << bit;
+        if ((page[bit >>> 6] & mask) != 0) {
+            return false;
+        }
+        page[bit >>> 6] |= mask;
+        size++;
+        return true;
+    }
+
+    public boolean contains(long value) {
+        long[] page = pages.get(value >>> PAGE_SHIFT);
+        if (page == null) {
+            return false;
+        }
+        int bit = (int) (value & PAGE_MASK);
+        return (page[bit >>> 6] & (1L << bit)) != 0;
+    }
+
+    public long size() {
+        return size;
+    }
+}
@@ -0,0 +1,105 @@
+package com.codingshuttle.linkedin.posts_service.util;
+
+import java.util.Arrays;
+
+/**
+ * Bounded, sorted set of {@code long}s backed by a primitive ring. Keeps the {@code capacity} largest
+ * values; once full, adding a value evicts the smallest one. Values are expected to arrive roughly in
+ * ascending order (post ids), which makes {@link #add} O(1) in the common case.
+ */
+public class LongRingBuffer {
+
+    private final long[] values;
+    // Physical index of the smallest value
+    private int start;
+    private int size;
+
+    public LongRingBuffer(int capacity) {
+        this.values = new long[capacity];
+    }
+
+    public static LongRingBuffer of(int capacity, long[] initialValues) {
+        LongRingBuffer buffer = new LongRingBuffer(capacity);
+        for (long value : initialValues) {
+            buffer.add(value);
+        }
+        return buffer;
+    }
+
+    /**
+     * @return false if the value was already present or is smaller than everything in a full buffer
+     */
+    public synchronized boolean add(long value) {
+        if (size == values.length && value <= get(0)) {
+            return false;
+        }
+        int insertAt = size;
+        while (insertAt > 0 && get(insertAt - 1) >= value) {
+            insertAt--;
+        }
+        if (insertAt < size && get(insertAt) == value) {
+            return false;
+        }
+
+        if (size == values.length) {
+            // Drop the smallest value to make room
+            start = (start + 1) % values.length;
+            size--;
+            insertAt--;
+        }
+        for (int i = size; i > insertAt; i--) {
+            set(i, get(i - 1));
+        }
+        set(insertAt, value);
+        size++;
+        return true;
+    }
+
+    /**
+     * Returns up to {@code limit} values smaller than {@code before}, largest first.
+     */
+    public synchronized long[] pageBefore(long before, int limit) {
+        // Binary search for the first logical index holding a value >= before
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (get(mid) < before) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        int count = Math.min(limit, low);
+        long[] page = new long[count];
+        for (int i = 0; i < count; i++) {
+            page[i] = get(low - 1 - i);
+        }
+        return page;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    public int capacity() {
+        return values.length;
+    }
+
+    @Override
+    public synchronized String toString() {
+        long[] ordered = new long[size];
+        for (int i = 0; i < size; i++) {
+            ordered[i] = get(i);
+        }
+        return Arrays.toString(ordered);
+    }
+
+    private long get(int logicalIndex) {
+        return values[(start + logicalIndex) % values.length];
+    }
+
+    private void set(int logicalIndex, long value) {
+        values[(start + logicalIndex) % values.length] = value;
+    }
+}
@@ -0,0 +1,151 @@
+package com.codingshuttle.linkedin.posts_service.util;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Postings of one term, kept as a byte array of varint-encoded {@code (docId delta, term frequency,
+ * document length)} triples in ascending docId order. Appending a newer document is O(1); an older
+ * one (rare, e.g. events racing the bootstrap) re-encodes the list.
+ */
+public class PostingList {
+
+    private byte[] bytes;
+    private int length;
+    private int size;
+    private long lastDocId;
+
+    public PostingList() {
+        this(new byte[8], 0, 0, 0);
+    }
+
+    private PostingList(byte[] bytes, int length, int size, long lastDocId) {
+        this.bytes = bytes;
+        this.length = length;
+        this.size = size;
+        this.lastDocId = lastDocId;
+    }
+
+    /**
+     * @return false if the document was already present
+     */
+    public boolean add(long docId, int termFrequency, int documentLength) {
+        if (docId > lastDocId) {
+            append(docId, termFrequency, documentLength);
+            return true;
+        }
+        return insertOutOfOrder(docId, termFrequency, documentLength);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int sizeInBytes() {
+        return length;
+    }
+
+    public void forEach(PostingConsumer consumer) {
+        int position = 0;
+        long docId = 0;
+        int[] cursor = new int[1];
+        while (position < length) {
+            cursor[0] = position;
+            docId += readVarLong(cursor);
+            int termFrequency = (int) readVarLong(cursor);
+            int documentLength = (int) readVarLong(cursor);
+            position = cursor[0];
+            consumer.accept(docId, termFrequency, documentLength);
+        }
+    }
+
+    public void writeTo(DataOutput out) throws IOException {
+        out.writeInt(size);
+        out.writeLong(lastDocId);
+        out.writeInt(length);
+        out.write(bytes, 0, length);
+    }
+
+    public static PostingList readFrom(DataInput in) throws IOException {
+        int size = in.readInt();
+        long lastDocId = in.readLong();
+        int length = in.readInt();
+        byte[] bytes = new byte[Math.max(8, length)];
+        in.readFully(bytes, 0, length);
+        return new PostingList(bytes, length, size, lastDocId);
+    }
+
+    private void append(long docId, int termFrequency, int documentLength) {
+        writeVarLong(docId - lastDocId);
+        writeVarLong(termFrequency);
+        writeVarLong(documentLength);
+        lastDocId = docId;
+        size++;
+    }
+
+    // One decoding pass both finds a duplicate and collects the postings to re-encode
+    private boolean insertOutOfOrder(long docId, int termFrequency, int documentLength) {
+        long[] postings = new long[(size + 1) * 3];
+        int[] count = new int[1];
+        boolean[] inserted = new boolean[1];
+        boolean[] duplicate = new boolean[1];
+        forEach((id, tf, dl) -> {
+            if (id == docId) {
+                duplicate[0] = true;
+            }
+            if (!inserted[0] && docId < id) {
+                store(postings, count[0]++, docId, termFrequency, documentLength);
+                inserted[0] = true;
+            }
+            store(postings, count[0]++, id, tf, dl);
+        });
+        if (duplicate[0]) {
+            return false;
+        }
+
+        bytes = new byte[Math.max(8, length + 16)];
+        length = 0;
+        size = 0;
+        lastDocId = 0;
+        for (int i = 0; i < count[0]; i++) {
+            append(postings[i * 3], (int) postings[i * 3 + 1], (int) postings[i * 3 + 2]);
+        }
+        return true;
+    }
+
+    private static void store(long[] postings, int index, long docId, int termFrequency, int documentLength) {
+        postings[index * 3] = docId;
+        postings[index * 3 + 1] = termFrequency;
+        postings[index * 3 + 2] = documentLength;
+    }
+
+    private void writeVarLong(long value) {
+        if (length + 10 > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, length + 10));
+        }
+        while ((value & ~0x7FL) != 0) {
+            bytes[length++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        bytes[length++] = (byte) value;
+    }
+
+    private long readVarLong(int[] cursor) {
+        long value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = bytes[cursor[0]++];
+            value |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+
+    @FunctionalInterface
+    public interface PostingConsumer {
+        void accept(long docId, int termFrequency, int documentLength);
+    }
+}
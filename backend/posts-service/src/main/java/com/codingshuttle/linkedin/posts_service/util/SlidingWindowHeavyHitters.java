@@ -0,0 +1,105 @@
+package com.codingshuttle.linkedin.posts_service.util;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * Approximate most frequent keys over a sliding window, in fixed memory. Time is cut into {@code buckets}
+ * buckets of {@code bucketSize}, kept in a ring; each holds a {@link CountMinSketch} for counts and a
+ * {@link SpaceSaving} summary for candidate keys. A window query sums the sketches of the buckets it
+ * covers and ranks the union of their candidates. Windows are only as precise as the bucket size: the
+ * current bucket is partial, so a window of {@code n} buckets covers between {@code n - 1} and {@code n}
+ * bucket lengths. Not thread-safe.
+ */
+public class SlidingWindowHeavyHitters {
+
+    private final long bucketMillis;
+    private final Bucket[] ring;
+    // Reused by every query
+    private final CountMinSketch windowSketch;
+
+    public SlidingWindowHeavyHitters(Duration bucketSize, int buckets, int sketchWidth, int sketchDepth,
+                                     int candidatesPerBucket) {
+        this.bucketMillis = bucketSize.toMillis();
+        this.ring = new Bucket[buckets];
+        for (int i = 0; i < buckets; i++) {
+            ring[i] = new Bucket(new CountMinSketch(sketchWidth, sketchDepth), new SpaceSaving(candidatesPerBucket));
+        }
+        this.windowSketch = new CountMinSketch(sketchWidth, sketchDepth);
+    }
+
+    public void add(long key, long timeMillis) {
+        long index = Math.floorDiv(timeMillis, bucketMillis);
+        Bucket bucket = ring[(int) Math.floorMod(index, (long) ring.length)];
+        if (bucket.index != index) {
+            if (bucket.index > index) {
+                // Older than anything the ring still covers
+                return;
+            }
+            bucket.reset(index);
+        }
+        bucket.sketch.add(key, 1);
+        bucket.candidates.add(key);
+    }
+
+    /**
+     * @param windowBuckets how many buckets, counting back from the one containing {@code nowMillis}
+     * @return at most {@code k} keys, most frequent first
+     */
+    public List<Hit> top(int windowBuckets, int k, long nowMillis) {
+        if (windowBuckets > ring.length) {
+            throw new IllegalArgumentException("Window is longer than the " + ring.length + " buckets kept");
+        }
+        long now = Math.floorDiv(nowMillis, bucketMillis);
+        windowSketch.clear();
+        Set<Long> candidates = new HashSet<>();
+        for (Bucket bucket : ring) {
+            if (bucket.index <= now && bucket.index > now - windowBuckets) {
+                windowSketch.merge(bucket.sketch);
+                for (long key : bucket.candidates.keys()) {
+                    candidates.add(key);
+                }
+            }
+        }
+
+        PriorityQueue<Hit> best = new PriorityQueue<>(Comparator.comparingLong(Hit::count));
+        for (long key : candidates) {
+            long count = windowSketch.estimate(key);
+            if (best.size() < k) {
+                best.add(new Hit(key, count));
+            } else if (count > best.peek().count()) {
+                best.poll();
+                best.add(new Hit(key, count));
+            }
+        }
+        List<Hit> hits = new ArrayList<>(best);
+        hits.sort(Comparator.comparingLong(Hit::count).reversed().thenComparingLong(Hit::key));
+        return hits;
+    }
+
+    public record Hit(long key, long count) {
+    }
+
+    private static class Bucket {
+
+        private final CountMinSketch sketch;
+        private final SpaceSaving candidates;
+        private long index = Long.MIN_VALUE;
+
+        Bucket(CountMinSketch sketch, SpaceSaving candidates) {
+            this.sketch = sketch;
+            this.candidates = candidates;
+        }
+
+        void reset(long index) {
+            this.index = index;
+            sketch.clear();
+            candidates.clear();
+        }
+    }
+}
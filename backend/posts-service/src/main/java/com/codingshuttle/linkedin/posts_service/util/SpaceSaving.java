@@ -0,0 +1,63 @@
+package com.codingshuttle.linkedin.posts_service.util;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Space-Saving heavy-hitter summary: tracks at most {@code capacity} keys, and any key seen more than
+ * {@code total / capacity} times is guaranteed to be among them. When full, a new key replaces the one
+ * with the smallest counter. Not thread-safe.
+ */
+public class SpaceSaving {
+
+    private final long[] keys;
+    private final long[] counts;
+    private final Map<Long, Integer> slots;
+    private int size;
+
+    public SpaceSaving(int capacity) {
+        this.keys = new long[capacity];
+        this.counts = new long[capacity];
+        this.slots = new HashMap<>(capacity * 2);
+    }
+
+    public void add(long key) {
+        Integer slot = slots.get(key);
+        if (slot != null) {
+            counts[slot]++;
+            return;
+        }
+        if (size < keys.length) {
+            keys[size] = key;
+            counts[size] = 1;
+            slots.put(key, size++);
+            return;
+        }
+
+        int min = 0;
+        for (int i = 1; i < size; i++) {
+            if (counts[i] < counts[min]) {
+                min = i;
+            }
+        }
+        slots.remove(keys[min]);
+        keys[min] = key;
+        counts[min]++;
+        slots.put(key, min);
+    }
+
+    public long[] keys() {
+        long[] copy = new long[size];
+        System.arraycopy(keys, 0, copy, 0, size);
+        return copy;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void clear() {
+        slots.clear();
+        size = 0;
+    }
+}
@@ -0,0 +1,47 @@
+package com.codingshuttle.linkedin.posts_service.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+public final class Tokenizer {
+
+    private static final int MIN_TOKEN_LENGTH = 2;
+    private static final int MAX_TOKEN_LENGTH = 40;
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "an", "and", "are", "as", "at", "be", "by", "for", "from", "has", "in", "is", "it", "its",
+            "of", "on", "or", "that", "the", "this", "to", "was", "were", "will", "with");
+
+    private Tokenizer() {
+    }
+
+    /**
+     * Lower-cases the text and splits it on anything that isn't a letter or a digit, dropping stop
+     * words and tokens that are too short or too long to be useful search terms.
+     */
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        String lowerCase = text.toLowerCase(Locale.ROOT);
+        int start = -1;
+        for (int i = 0; i <= lowerCase.length(); i++) {
+            boolean wordChar = i < lowerCase.length() && Character.isLetterOrDigit(lowerCase.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                addToken(tokens, lowerCase.substring(start, i));
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+
+    private static void addToken(List<String> tokens, String token) {
+        if (token.length() >= MIN_TOKEN_LENGTH && token.length() <= MAX_TOKEN_LENGTH && !STOP_WORDS.contains(token)) {
+            tokens.add(token);
+        }
+    }
+}
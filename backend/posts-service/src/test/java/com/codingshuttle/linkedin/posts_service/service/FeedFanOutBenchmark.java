@@ -0,0 +1,127 @@
+package com.codingshuttle.linkedin.posts_service.service;
+
+import com.codingshuttle.linkedin.event.FeedUpdatedEvent;
+import com.codingshuttle.linkedin.event.PostCreatedEvent;
+import com.codingshuttle.linkedin.posts_service.client.ConnectionsClient;
+import com.codingshuttle.linkedin.posts_service.dto.PersonDto;
+import com.codingshuttle.linkedin.posts_service.repository.AdvisoryLockRepository;
+import com.codingshuttle.linkedin.posts_service.repository.FeedEntryBatchRepository;
+import com.codingshuttle.linkedin.posts_service.repository.FeedEntryRepository;
+import com.codingshuttle.linkedin.posts_service.repository.FeedPreferenceRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.kafka.core.KafkaTemplate;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Time to fan one post out to the feeds of a creator with 1k and 100k connections: {@link FeedService#fanOut}
+ * with the real {@link FeedEntryBatchRepository} against Postgres, connections-service and Kafka mocked.
+ * Connections are opened with {@code reWriteBatchedInserts=true}, as in {@code application.yml}.
+ * The data lives in its own {@code feed_benchmark} schema, which is emptied before every iteration and
+ * dropped afterwards. Run with
+ * {@code mvn -Pbenchmark test-compile exec:exec -Dbenchmark.include=FeedFanOut -Dbenchmark.jdbc-url=...}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class FeedFanOutBenchmark {
+
+    private static final String SCHEMA = "feed_benchmark";
+    private static final long CREATOR_ID = 1L;
+
+    @Param({"1000", "100000"})
+    public int connections;
+
+    private Connection connection;
+    private FeedService feedService;
+    private long postId;
+
+    @Setup(Level.Trial)
+    @SuppressWarnings("unchecked")
+    public void setUp() throws SQLException {
+        Properties properties = new Properties();
+        properties.setProperty("user", System.getProperty("benchmark.jdbc-user"));
+        properties.setProperty("password", System.getProperty("benchmark.jdbc-password"));
+        properties.setProperty("reWriteBatchedInserts", "true");
+        connection = DriverManager.getConnection(System.getProperty("benchmark.jdbc-url"), properties);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+            statement.execute("CREATE SCHEMA " + SCHEMA);
+            statement.execute("SET search_path TO " + SCHEMA);
+            // Same columns and unique constraint as the feed_entries table
+            statement.execute("""
+                    CREATE TABLE feed_entries (id bigserial PRIMARY KEY, user_id bigint NOT NULL, post_id bigint NOT NULL,
+                                               created_at timestamp,
+                                               CONSTRAINT uk_feed_entries_user_post UNIQUE (user_id, post_id))""");
+        }
+
+        List<PersonDto> firstDegree = LongStream.rangeClosed(CREATOR_ID + 1, CREATOR_ID + connections)
+                .mapToObj(userId -> {
+                    PersonDto person = new PersonDto();
+                    person.setUserId(userId);
+                    return person;
+                })
+                .toList();
+        ConnectionsClient connectionsClient = mock(ConnectionsClient.class);
+        when(connectionsClient.getFirstDegreeConnections(anyLong())).thenReturn(firstDegree);
+
+        FeedEntryBatchRepository feedEntryBatchRepository = new FeedEntryBatchRepository(
+                new JdbcTemplate(new SingleConnectionDataSource(connection, true)));
+        feedService = new FeedService(connectionsClient, mock(FeedEntryRepository.class), feedEntryBatchRepository,
+                mock(FeedPreferenceRepository.class), mock(PostService.class),
+                (KafkaTemplate<Long, FeedUpdatedEvent>) mock(KafkaTemplate.class), mock(AdvisoryLockRepository.class),
+                new SimpleMeterRegistry(), 500, 100_000, Duration.ofMinutes(1), 1000, 1000, 20, 100);
+    }
+
+    @Setup(Level.Iteration)
+    public void emptyFeeds() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("TRUNCATE feed_entries");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP SCHEMA " + SCHEMA + " CASCADE");
+        } finally {
+            connection.close();
+        }
+    }
+
+    @Benchmark
+    public void fanOut() {
+        // A new post every time, so that every row is a real insert rather than an ON CONFLICT no-op
+        feedService.fanOut(new PostCreatedEvent(CREATOR_ID, "post", ++postId));
+    }
+}
@@ -0,0 +1,173 @@
+package com.codingshuttle.linkedin.posts_service.service;
+
+import com.codingshuttle.linkedin.event.FeedUpdatedEvent;
+import com.codingshuttle.linkedin.event.PostCreatedEvent;
+import com.codingshuttle.linkedin.posts_service.client.ConnectionsClient;
+import com.codingshuttle.linkedin.posts_service.config.KafkaTopicConfig;
+import com.codingshuttle.linkedin.posts_service.dto.CursorPageDto;
+import com.codingshuttle.linkedin.posts_service.dto.PersonDto;
+import com.codingshuttle.linkedin.posts_service.dto.PostDto;
+import com.codingshuttle.linkedin.posts_service.entity.enums.FeedStrategy;
+import com.codingshuttle.linkedin.posts_service.repository.AdvisoryLockRepository;
+import com.codingshuttle.linkedin.posts_service.repository.FeedEntryBatchRepository;
+import com.codingshuttle.linkedin.posts_service.repository.FeedEntryRepository;
+import com.codingshuttle.linkedin.posts_service.repository.FeedPreferenceRepository;
+import com.codingshuttle.linkedin.posts_service.util.KeysetCursor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.core.KafkaTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class FeedServiceTest {
+
+    private static final long CREATOR_ID = 1L;
+    private static final int INSERT_BATCH_SIZE = 1000;
+
+    private ConnectionsClient connectionsClient;
+    private FeedEntryRepository feedEntryRepository;
+    private FeedEntryBatchRepository feedEntryBatchRepository;
+    private FeedPreferenceRepository feedPreferenceRepository;
+    private PostService postService;
+    private KafkaTemplate<Long, FeedUpdatedEvent> kafkaTemplate;
+    private FeedService feedService;
+    private final AtomicLong insertedEntries = new AtomicLong();
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        connectionsClient = mock(ConnectionsClient.class);
+        feedEntryRepository = mock(FeedEntryRepository.class);
+        feedEntryBatchRepository = mock(FeedEntryBatchRepository.class);
+        feedPreferenceRepository = mock(FeedPreferenceRepository.class);
+        postService = mock(PostService.class);
+        kafkaTemplate = mock(KafkaTemplate.class);
+        feedService = new FeedService(connectionsClient, feedEntryRepository, feedEntryBatchRepository,
+                feedPreferenceRepository, postService, kafkaTemplate, mock(AdvisoryLockRepository.class), new SimpleMeterRegistry(), 500, 200_000,
+                Duration.ofMinutes(1), INSERT_BATCH_SIZE, 1000, 20, 100);
+
+        doAnswer(invocation -> {
+            insertedEntries.addAndGet(invocation.<List<Long>>getArgument(1).size());
+            return null;
+        }).when(feedEntryBatchRepository).insertAll(anyLong(), anyList());
+        when(feedEntryRepository.findLatestPostIds(any(), any())).thenReturn(List.of());
+        when(postService.getPostsByIds(anyList())).thenReturn(List.of());
+    }
+
+    @Test
+    void fanOutToThousandConnectionsIsOneBatch() {
+        assertFanOutBatches(1_000);
+    }
+
+    @Test
+    void fanOutToHundredThousandConnectionsIsBatched() {
+        assertFanOutBatches(100_000);
+    }
+
+    @Test
+    void cachedTimelineSeesNewPostWithoutReload() {
+        givenConnections(10);
+        long followerId = 1_000L;
+        feedService.getFeed(followerId, null, 20);
+
+        feedService.fanOut(PostCreatedEvent.builder().creatorId(CREATOR_ID).postId(77L).content("hi").build());
+        feedService.getFeed(followerId, null, 20);
+
+        verify(feedEntryRepository, times(1)).findLatestPostIds(eq(followerId), any());
+        verify(postService).getPostsByIds(List.of(77L));
+    }
+
+    @Test
+    void fanOutSkipsPullUsers() {
+        givenConnections(3);
+        when(feedPreferenceRepository.findUserIdsWithStrategy(eq(FeedStrategy.PULL), anyList()))
+                .thenReturn(List.of(1_001L));
+
+        feedService.fanOut(PostCreatedEvent.builder().creatorId(CREATOR_ID).postId(42L).content("hi").build());
+
+        verify(feedEntryBatchRepository).insertAll(42L, List.of(CREATOR_ID, 1_000L, 1_002L));
+    }
+
+    @Test
+    void nextCursorIsKeysetOfLastPost() {
+        LocalDateTime createdAt = LocalDateTime.of(2026, 1, 2, 3, 4, 5);
+        when(feedEntryRepository.findLatestPostIds(eq(5L), any())).thenReturn(List.of(30L, 20L, 10L));
+        when(postService.getPostsByIds(List.of(30L, 20L))).thenReturn(List.of(post(30L, createdAt.plusHours(1)),
+                post(20L, createdAt)));
+
+        CursorPageDto<PostDto> page = feedService.getFeed(5L, null, 2);
+        feedService.getFeed(5L, page.getNextCursor(), 2);
+
+        assertThat(KeysetCursor.decode(page.getNextCursor())).isEqualTo(new KeysetCursor(createdAt, 20L));
+        verify(postService).getPostsByIds(List.of(10L));
+    }
+
+    @Test
+    void timelineIsLoadedOldestFirst() {
+        when(feedEntryRepository.findLatestPostIds(eq(5L), any())).thenReturn(List.of(30L, 20L, 10L));
+
+        feedService.getFeed(5L, null, 20);
+
+        verify(postService).getPostsByIds(List.of(30L, 20L, 10L));
+    }
+
+    @Test
+    void updateFromAnotherReplicaOnlyTouchesCachedTimelines() {
+        feedService.getFeed(5L, null, 20);
+
+        feedService.addToCachedTimelines(77L, List.of(5L, 6L));
+        feedService.addToCachedTimelines(77L, List.of(5L, 6L));
+        feedService.getFeed(5L, null, 20);
+
+        verify(postService).getPostsByIds(List.of(77L));
+        verify(feedEntryRepository, times(1)).findLatestPostIds(eq(5L), any());
+        verify(feedEntryRepository, times(0)).findLatestPostIds(eq(6L), any());
+    }
+
+    private void assertFanOutBatches(int connections) {
+        givenConnections(connections);
+
+        feedService.fanOut(PostCreatedEvent.builder().creatorId(CREATOR_ID).postId(42L).content("hi").build());
+
+        int feeds = connections + 1;
+        int batches = (feeds + INSERT_BATCH_SIZE - 1) / INSERT_BATCH_SIZE;
+        assertThat(insertedEntries.get()).isEqualTo(feeds);
+        verify(feedEntryBatchRepository, times(batches)).insertAll(eq(42L), anyList());
+        verify(kafkaTemplate, times(batches)).send(eq(KafkaTopicConfig.FEED_UPDATES_TOPIC), eq(42L),
+                any(FeedUpdatedEvent.class));
+    }
+
+    private static PostDto post(long id, LocalDateTime createdAt) {
+        PostDto post = new PostDto();
+        post.setId(id);
+        post.setCreatedAt(createdAt);
+        return post;
+    }
+
+    private void givenConnections(int count) {
+        List<PersonDto> persons = LongStream.range(1_000, 1_000 + count)
+                .mapToObj(userId -> {
+                    PersonDto person = new PersonDto();
+                    person.setUserId(userId);
+                    return person;
+                })
+                .toList();
+        when(connectionsClient.getFirstDegreeConnections(CREATOR_ID)).thenReturn(persons);
+    }
+}
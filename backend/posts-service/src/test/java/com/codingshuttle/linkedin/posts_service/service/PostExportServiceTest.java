@@ -0,0 +1,151 @@
+package com.codingshuttle.linkedin.posts_service.service;
+
+import com.codingshuttle.linkedin.posts_service.exception.BadRequestException;
+import com.codingshuttle.linkedin.posts_service.repository.PostLikeRepository;
+import com.codingshuttle.linkedin.posts_service.repository.PostRepository;
+import com.codingshuttle.linkedin.posts_service.repository.projection.LikeExportProjection;
+import com.codingshuttle.linkedin.posts_service.repository.projection.PostExportProjection;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PostExportServiceTest {
+
+    private static final long USER_ID = 7L;
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2026, 1, 1, 12, 0);
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+    private PostRepository postRepository;
+    private PostLikeRepository postLikeRepository;
+    private PostExportService postExportService;
+
+    @BeforeEach
+    void setUp() {
+        postRepository = mock(PostRepository.class);
+        postLikeRepository = mock(PostLikeRepository.class);
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        postExportService = new PostExportService(postRepository, postLikeRepository, objectMapper, transactionManager);
+    }
+
+    @Test
+    void postsRangeIsParsed() {
+        assertThat(PostExportService.parseRange("posts=1234-")).isEqualTo(OptionalLong.of(1234));
+        assertThat(PostExportService.parseRange(" Posts=0- ")).isEqualTo(OptionalLong.of(0));
+    }
+
+    @Test
+    void otherRangeUnitsAreIgnored() {
+        assertThat(PostExportService.parseRange("bytes=0-99")).isEmpty();
+        assertThat(PostExportService.parseRange("items=5-")).isEmpty();
+    }
+
+    @Test
+    void malformedPostsRangeIsRejected() {
+        assertThatThrownBy(() -> PostExportService.parseRange("posts=abc-")).isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> PostExportService.parseRange("posts=5-10")).isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    void gzipNeedsNonZeroQuality() {
+        assertThat(PostExportService.acceptsGzip("gzip, deflate, br")).isTrue();
+        assertThat(PostExportService.acceptsGzip("br;q=1.0, GZIP;q=0.5")).isTrue();
+        assertThat(PostExportService.acceptsGzip("*")).isTrue();
+        assertThat(PostExportService.acceptsGzip("gzip;q=0")).isFalse();
+        assertThat(PostExportService.acceptsGzip("gzip;q=0.0, *")).isFalse();
+        assertThat(PostExportService.acceptsGzip("deflate, *;q=0")).isFalse();
+        assertThat(PostExportService.acceptsGzip("identity")).isFalse();
+        assertThat(PostExportService.acceptsGzip(null)).isFalse();
+    }
+
+    @Test
+    void postsAndLikesAreMergedByPostIdWithOwnPostFirst() throws IOException {
+        when(postRepository.streamForExport(USER_ID, 0L)).thenReturn(Stream.of(post(2), post(5), post(9)));
+        when(postLikeRepository.streamForExport(USER_ID, 0L)).thenReturn(Stream.of(like(1), like(5), like(7), like(12)));
+
+        List<String> lines = export();
+
+        assertThat(lines).containsExactly("like:1", "post:2", "post:5", "like:5", "like:7", "post:9", "like:12");
+    }
+
+    @Test
+    void emptyExportWritesNothing() throws IOException {
+        when(postRepository.streamForExport(USER_ID, 0L)).thenReturn(Stream.empty());
+        when(postLikeRepository.streamForExport(USER_ID, 0L)).thenReturn(Stream.empty());
+
+        assertThat(export()).isEmpty();
+    }
+
+    // Each line as "<type>:<post id>"
+    private List<String> export() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        postExportService.writeExport(USER_ID, 0L, false, out);
+        List<String> lines = new ArrayList<>();
+        for (String line : out.toString(StandardCharsets.UTF_8).split("\n")) {
+            if (line.isEmpty()) {
+                continue;
+            }
+            JsonNode node = objectMapper.readTree(line);
+            String type = node.get("type").asText();
+            lines.add(type + ":" + node.get(type.equals("post") ? "id" : "postId").asLong());
+        }
+        return lines;
+    }
+
+    private static PostExportProjection post(long id) {
+        return new PostExportProjection() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getContent() {
+                return "post " + id;
+            }
+
+            @Override
+            public LocalDateTime getCreatedAt() {
+                return CREATED_AT;
+            }
+
+            @Override
+            public long getLikeCount() {
+                return 0;
+            }
+        };
+    }
+
+    private static LikeExportProjection like(long postId) {
+        return new LikeExportProjection() {
+            @Override
+            public Long getPostId() {
+                return postId;
+            }
+
+            @Override
+            public LocalDateTime getCreatedAt() {
+                return CREATED_AT;
+            }
+        };
+    }
+}
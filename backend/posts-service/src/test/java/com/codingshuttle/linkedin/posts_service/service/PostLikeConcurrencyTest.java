@@ -0,0 +1,176 @@
+package com.codingshuttle.linkedin.posts_service.service;
+
+import com.codingshuttle.linkedin.event.PostLikedEvent;
+import com.codingshuttle.linkedin.posts_service.repository.AdvisoryLockRepository;
+import com.codingshuttle.linkedin.posts_service.repository.PostLikeRepository;
+import com.codingshuttle.linkedin.posts_service.repository.PostRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.modelmapper.ModelMapper;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.kafka.core.KafkaTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Concurrent likes and unlikes of one (post, user) pair against Postgres, so that {@code uk_post_likes_post_user}
+ * and the {@code ON CONFLICT DO NOTHING} of {@link PostLikeRepository#insertIfAbsent} decide who wins, not a
+ * stand-in. The insert runs the repository's own native SQL; the JPQL delete runs as its SQL equivalent.
+ * {@code posts.like_count} is kept by a real {@link LikeCountAggregator}. Uses its own
+ * {@code like_concurrency_test} schema, dropped afterwards, and only runs when a database is given:
+ * <pre>
+ * mvn test -Dtest=PostLikeConcurrencyTest -Dbenchmark.jdbc-url=jdbc:postgresql://localhost:5432/posts-db \
+ *     -Dbenchmark.jdbc-user=postgres -Dbenchmark.jdbc-password=password
+ * </pre>
+ */
+@EnabledIfSystemProperty(named = "benchmark.jdbc-url", matches = ".+")
+class PostLikeConcurrencyTest {
+
+    private static final String SCHEMA = "like_concurrency_test";
+    private static final long POST_ID = 1L;
+    private static final long USER_ID = 7L;
+    private static final int THREADS = 16;
+    private static final int OPERATIONS_PER_THREAD = 200;
+
+    private static HikariDataSource dataSource;
+    private static JdbcTemplate jdbcTemplate;
+
+    private LikeCountAggregator likeCountAggregator;
+    private PostLikeService postLikeService;
+
+    @BeforeAll
+    static void createSchema() {
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(System.getProperty("benchmark.jdbc-url"));
+        dataSource.setUsername(System.getProperty("benchmark.jdbc-user", "postgres"));
+        dataSource.setPassword(System.getProperty("benchmark.jdbc-password", "password"));
+        dataSource.setMaximumPoolSize(THREADS);
+        dataSource.setConnectionInitSql("SET search_path TO " + SCHEMA);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+
+        jdbcTemplate.execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+        jdbcTemplate.execute("CREATE SCHEMA " + SCHEMA);
+        // Same columns and constraints as the posts and post_likes tables
+        jdbcTemplate.execute("""
+                CREATE TABLE posts (id bigint PRIMARY KEY, user_id bigint NOT NULL, content text,
+                                    created_at timestamp, like_count bigint NOT NULL DEFAULT 0)""");
+        jdbcTemplate.execute("""
+                CREATE TABLE post_likes (id bigserial PRIMARY KEY, post_id bigint NOT NULL, user_id bigint NOT NULL,
+                                         created_at timestamp,
+                                         CONSTRAINT uk_post_likes_post_user UNIQUE (post_id, user_id))""");
+    }
+
+    @AfterAll
+    static void dropSchema() {
+        try {
+            jdbcTemplate.execute("DROP SCHEMA " + SCHEMA + " CASCADE");
+        } finally {
+            dataSource.close();
+        }
+    }
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() throws NoSuchMethodException {
+        jdbcTemplate.execute("TRUNCATE post_likes, posts");
+        jdbcTemplate.update("INSERT INTO posts (id, user_id, content, created_at) VALUES (?, 1, 'post', now())", POST_ID);
+
+        NamedParameterJdbcTemplate namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        String insertIfAbsent = PostLikeRepository.class.getMethod("insertIfAbsent", Long.class, Long.class)
+                .getAnnotation(Query.class).value();
+        PostLikeRepository postLikeRepository = mock(PostLikeRepository.class);
+        when(postLikeRepository.insertIfAbsent(anyLong(), anyLong())).thenAnswer(invocation ->
+                namedJdbcTemplate.update(insertIfAbsent,
+                        Map.of("postId", invocation.getArgument(0), "userId", invocation.getArgument(1))));
+        when(postLikeRepository.deleteIfPresent(anyLong(), anyLong())).thenAnswer(invocation ->
+                jdbcTemplate.update("DELETE FROM post_likes WHERE post_id = ? AND user_id = ?",
+                        invocation.<Long>getArgument(0), invocation.<Long>getArgument(1)));
+        PostRepository postRepository = mock(PostRepository.class);
+        when(postRepository.existsById(POST_ID)).thenReturn(true);
+
+        likeCountAggregator = new LikeCountAggregator(jdbcTemplate, mock(KafkaTemplate.class),
+                mock(AdvisoryLockRepository.class));
+        postLikeService = new PostLikeService(postLikeRepository, postRepository, new ModelMapper(),
+                (KafkaTemplate<Long, PostLikedEvent>) mock(KafkaTemplate.class), likeCountAggregator);
+    }
+
+    @Test
+    void concurrentLikesFromSameUserCreateOneRowAndCountOnce() throws Exception {
+        runConcurrently(() -> postLikeService.likePost(POST_ID, USER_ID));
+
+        likeCountAggregator.flush();
+        assertThat(likeRows()).isEqualTo(1);
+        assertThat(likeCount()).isEqualTo(1);
+    }
+
+    @Test
+    void concurrentLikesAndUnlikesEndWithOneRowAndMatchingCount() throws Exception {
+        runConcurrently(() -> {
+            if (ThreadLocalRandom.current().nextBoolean()) {
+                postLikeService.likePost(POST_ID, USER_ID);
+            } else {
+                postLikeService.unlikePost(POST_ID, USER_ID);
+            }
+        });
+        likeCountAggregator.flush();
+        assertThat(likeRows()).isBetween(0, 1);
+        assertThat(likeCount()).isEqualTo(likeRows());
+
+        // Likes only from here, so the pair ends up liked
+        runConcurrently(() -> postLikeService.likePost(POST_ID, USER_ID));
+
+        likeCountAggregator.flush();
+        assertThat(likeRows()).isEqualTo(1);
+        assertThat(likeCount()).isEqualTo(1);
+    }
+
+    private static void runConcurrently(Runnable operation) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> running = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                running.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+                        operation.run();
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : running) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static int likeRows() {
+        return jdbcTemplate.queryForObject("SELECT count(*) FROM post_likes WHERE post_id = ? AND user_id = ?",
+                Integer.class, POST_ID, USER_ID);
+    }
+
+    private static long likeCount() {
+        return jdbcTemplate.queryForObject("SELECT like_count FROM posts WHERE id = ?", Long.class, POST_ID);
+    }
+}
@@ -0,0 +1,248 @@
+package com.codingshuttle.linkedin.posts_service.service;
+
+import com.codingshuttle.linkedin.event.PostLikedEvent;
+import com.codingshuttle.linkedin.posts_service.dto.CursorPageDto;
+import com.codingshuttle.linkedin.posts_service.dto.LikeStatusDto;
+import com.codingshuttle.linkedin.posts_service.dto.LikerDto;
+import com.codingshuttle.linkedin.posts_service.exception.BadRequestException;
+import com.codingshuttle.linkedin.posts_service.exception.ResourceNotFoundException;
+import com.codingshuttle.linkedin.posts_service.repository.PostLikeRepository;
+import com.codingshuttle.linkedin.posts_service.repository.PostRepository;
+import com.codingshuttle.linkedin.posts_service.repository.projection.LikerProjection;
+import com.codingshuttle.linkedin.posts_service.util.KeysetCursor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.modelmapper.ModelMapper;
+import org.springframework.data.domain.Limit;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PostLikeServiceTest {
+
+    private static final long POST_ID = 42L;
+    private static final long USER_ID = 7L;
+
+    // In-memory stand-in for post_likes and its (post_id, user_id) unique constraint
+    private final Set<List<Long>> likes = ConcurrentHashMap.newKeySet();
+
+    private PostLikeRepository postLikeRepository;
+    private PostRepository postRepository;
+    private KafkaTemplate<Long, PostLikedEvent> kafkaTemplate;
+    private LikeCountAggregator likeCountAggregator;
+    private PostLikeService postLikeService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        postLikeRepository = mock(PostLikeRepository.class);
+        postRepository = mock(PostRepository.class);
+        kafkaTemplate = mock(KafkaTemplate.class);
+        likeCountAggregator = mock(LikeCountAggregator.class);
+        postLikeService = new PostLikeService(postLikeRepository, postRepository, new ModelMapper(),
+                kafkaTemplate, likeCountAggregator);
+        ReflectionTestUtils.setField(postLikeService, "statusMaxIds", 500);
+        ReflectionTestUtils.setField(postLikeService, "defaultPageSize", 20);
+        ReflectionTestUtils.setField(postLikeService, "maxPageSize", 100);
+
+        when(postRepository.existsById(POST_ID)).thenReturn(true);
+        when(postLikeRepository.insertIfAbsent(eq(POST_ID), anyLong())).thenAnswer(invocation ->
+                likes.add(List.of(invocation.getArgument(0), invocation.getArgument(1))) ? 1 : 0);
+        when(postLikeRepository.deleteIfPresent(eq(POST_ID), anyLong())).thenAnswer(invocation ->
+                likes.remove(List.of(invocation.getArgument(0), invocation.getArgument(1))) ? 1 : 0);
+    }
+
+    // The database's atomicity is faked by the set; these check that the service only acts on the insert's
+    // result. The same races against Postgres, with the real constraint, are in PostLikeConcurrencyTest
+    @Test
+    void serviceActsOnlyOnReportedInsertForRepeatedLikesFromSameUser() throws Exception {
+        int threads = 64;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    postLikeService.likePost(POST_ID, USER_ID);
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(likes).containsExactly(List.of(POST_ID, USER_ID));
+        verify(postLikeRepository, times(threads)).insertIfAbsent(POST_ID, USER_ID);
+        verify(likeCountAggregator, times(1)).increment(POST_ID);
+        verify(kafkaTemplate, times(1)).send(eq("post-liked-topic"), any(PostLikedEvent.class));
+    }
+
+    @Test
+    void serviceActsOnEveryReportedInsertForLikesFromDifferentUsers() throws Exception {
+        int threads = 64;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                long userId = i;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    postLikeService.likePost(POST_ID, userId);
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(likes).hasSize(threads);
+        verify(likeCountAggregator, times(threads)).increment(POST_ID);
+        verify(kafkaTemplate, times(threads)).send(eq("post-liked-topic"), any(PostLikedEvent.class));
+    }
+
+    @Test
+    void unlikeIsIdempotent() {
+        postLikeService.likePost(POST_ID, USER_ID);
+
+        postLikeService.unlikePost(POST_ID, USER_ID);
+        postLikeService.unlikePost(POST_ID, USER_ID);
+
+        assertThat(likes).isEmpty();
+        verify(likeCountAggregator, times(1)).decrement(POST_ID);
+    }
+
+    @Test
+    void likingUnknownPostIsNotFound() {
+        long unknownPostId = 99L;
+        when(postRepository.existsById(unknownPostId)).thenReturn(false);
+
+        assertThatThrownBy(() -> postLikeService.likePost(unknownPostId, USER_ID))
+                .isInstanceOf(ResourceNotFoundException.class);
+        verify(likeCountAggregator, never()).increment(any());
+        verify(kafkaTemplate, never()).send(any(String.class), any(PostLikedEvent.class));
+    }
+
+    @Test
+    void likeStatusSetsOneBitPerLikedPostInRequestOrder() {
+        List<Long> postIds = List.of(5L, 3L, 9L, 3L, 12L, 1L, 2L, 4L, 6L, 9L);
+        when(postLikeRepository.findLikedPostIds(eq(USER_ID), anyCollection())).thenReturn(List.of(9L, 3L));
+
+        LikeStatusDto status = postLikeService.getLikeStatus(postIds, USER_ID);
+
+        BitSet liked = BitSet.valueOf(Base64.getDecoder().decode(status.getLiked()));
+        assertThat(status.getCount()).isEqualTo(postIds.size());
+        assertThat(liked.stream().boxed().toList()).containsExactly(1, 2, 3, 9);
+        verify(postLikeRepository, times(1)).findLikedPostIds(eq(USER_ID), anyCollection());
+    }
+
+    @Test
+    void likeStatusOfNothingLikedIsEmpty() {
+        when(postLikeRepository.findLikedPostIds(eq(USER_ID), anyCollection())).thenReturn(List.of());
+
+        LikeStatusDto status = postLikeService.getLikeStatus(List.of(1L, 2L, 3L), USER_ID);
+
+        assertThat(status.getLiked()).isEmpty();
+    }
+
+    @Test
+    void likeStatusRejectsTooManyIds() {
+        List<Long> postIds = LongStream.rangeClosed(1, 501).boxed().toList();
+
+        assertThatThrownBy(() -> postLikeService.getLikeStatus(postIds, USER_ID))
+                .isInstanceOf(BadRequestException.class);
+        verify(postLikeRepository, never()).findLikedPostIds(anyLong(), anyCollection());
+    }
+
+    @Test
+    void likersArePagedByKeyset() {
+        LocalDateTime now = LocalDateTime.of(2026, 1, 1, 12, 0);
+        // Three likers newest first, one more than the page size
+        List<LikerProjection> firstPage = LongStream.of(30, 20, 10)
+                .mapToObj(id -> (LikerProjection) new Liker(id, id + 1000, now.minusSeconds(id)))
+                .toList();
+        when(postLikeRepository.findLikers(eq(POST_ID), any(Limit.class))).thenReturn(firstPage);
+
+        CursorPageDto<LikerDto> page = postLikeService.getLikers(POST_ID, null, 2);
+
+        assertThat(page.getItems()).extracting(LikerDto::getUserId).containsExactly(1030L, 1020L);
+        KeysetCursor cursor = KeysetCursor.decode(page.getNextCursor());
+        assertThat(cursor).isEqualTo(new KeysetCursor(now.minusSeconds(20), 20L));
+
+        when(postLikeRepository.findLikersBefore(eq(POST_ID), eq(cursor.createdAt()), eq(cursor.id()), any(Limit.class)))
+                .thenReturn(List.of(firstPage.getLast()));
+
+        CursorPageDto<LikerDto> lastPage = postLikeService.getLikers(POST_ID, page.getNextCursor(), 2);
+
+        assertThat(lastPage.getItems()).extracting(LikerDto::getUserId).containsExactly(1010L);
+        assertThat(lastPage.getNextCursor()).isNull();
+    }
+
+    @Test
+    void likersOfUnknownPostAreNotFound() {
+        when(postLikeRepository.findLikers(eq(99L), any(Limit.class))).thenReturn(List.of());
+
+        assertThatThrownBy(() -> postLikeService.getLikers(99L, null, 2))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    void likeCountComesFromPostRow() {
+        when(postRepository.findLikeCountById(POST_ID)).thenReturn(Optional.of(5L));
+
+        assertThat(postLikeService.countLikes(POST_ID).getCount()).isEqualTo(5L);
+        assertThatThrownBy(() -> postLikeService.countLikes(99L)).isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    private record Liker(Long id, Long userId, LocalDateTime createdAt) implements LikerProjection {
+
+        @Override
+        public Long getId() {
+            return id;
+        }
+
+        @Override
+        public Long getUserId() {
+            return userId;
+        }
+
+        @Override
+        public LocalDateTime getCreatedAt() {
+            return createdAt;
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.codingshuttle.linkedin.posts_service.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Loading the likers of a user's posts against Postgres, with the statements the two versions of
+ * {@link PostService#getAllPostsForUser} issue:
+ * <ul>
+ *     <li>{@code queryPerPost}: {@code findByPostId} once per post, loading whole {@code PostLike} rows;</li>
+ *     <li>{@code chunkedInQueries}: {@code findLikersByPostIdIn} once per {@link PostService#LIKES_QUERY_CHUNK_SIZE}
+ *     posts, loading {@code (post_id, user_id)} only.</li>
+ * </ul>
+ * The data lives in its own {@code likes_benchmark} schema, which is dropped afterwards. Run with
+ * {@code mvn -Pbenchmark test-compile exec:exec -Dbenchmark.include=PostLikersQuery -Dbenchmark.jdbc-url=...}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class PostLikersQueryBenchmark {
+
+    private static final String SCHEMA = "likes_benchmark";
+
+    @Param("10000")
+    public int posts;
+
+    @Param("5")
+    public int likesPerPost;
+
+    private Connection connection;
+    private List<Long> postIds;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection(System.getProperty("benchmark.jdbc-url"),
+                System.getProperty("benchmark.jdbc-user"), System.getProperty("benchmark.jdbc-password"));
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+            statement.execute("CREATE SCHEMA " + SCHEMA);
+            statement.execute("SET search_path TO " + SCHEMA);
+            // Same columns and indexes as the posts and post_likes tables
+            statement.execute("""
+                    CREATE TABLE posts (id bigint PRIMARY KEY, user_id bigint NOT NULL, content text,
+                                        created_at timestamp, like_count bigint NOT NULL DEFAULT 0)""");
+            statement.execute("""
+                    CREATE TABLE post_likes (id bigserial PRIMARY KEY, post_id bigint NOT NULL, user_id bigint NOT NULL,
+                                             created_at timestamp,
+                                             CONSTRAINT uk_post_likes_post_user UNIQUE (post_id, user_id))""");
+            statement.execute("CREATE INDEX idx_post_likes_post_created_id ON post_likes (post_id, created_at, id)");
+            statement.execute("INSERT INTO posts SELECT id, 1, 'post ' || id, now(), " + likesPerPost
+                    + " FROM generate_series(1, " + posts + ") id");
+            statement.execute("INSERT INTO post_likes (post_id, user_id, created_at) SELECT p, u, now()"
+                    + " FROM generate_series(1, " + posts + ") p, generate_series(1, " + likesPerPost + ") u");
+            statement.execute("ANALYZE");
+        }
+
+        postIds = new ArrayList<>(posts);
+        try (Statement statement = connection.createStatement();
+             ResultSet rows = statement.executeQuery("SELECT id FROM posts WHERE user_id = 1")) {
+            while (rows.next()) {
+                postIds.add(rows.getLong(1));
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP SCHEMA " + SCHEMA + " CASCADE");
+        } finally {
+            connection.close();
+        }
+    }
+
+    @Benchmark
+    public Map<Long, List<Long>> queryPerPost() throws SQLException {
+        Map<Long, List<Long>> likedByUserIds = new HashMap<>();
+        for (Long postId : postIds) {
+            try (PreparedStatement statement = connection.prepareStatement(
+                    "SELECT id, created_at, post_id, user_id FROM post_likes WHERE post_id = ?")) {
+                statement.setLong(1, postId);
+                try (ResultSet rows = statement.executeQuery()) {
+                    while (rows.next()) {
+                        likedByUserIds.computeIfAbsent(postId, id -> new ArrayList<>()).add(rows.getLong("user_id"));
+                    }
+                }
+            }
+        }
+        return likedByUserIds;
+    }
+
+    @Benchmark
+    public Map<Long, List<Long>> chunkedInQueries() throws SQLException {
+        Map<Long, List<Long>> likedByUserIds = new HashMap<>();
+        for (int from = 0; from < postIds.size(); from += PostService.LIKES_QUERY_CHUNK_SIZE) {
+            List<Long> chunk = postIds.subList(from, Math.min(postIds.size(), from + PostService.LIKES_QUERY_CHUNK_SIZE));
+            String placeholders = String.join(",", Collections.nCopies(chunk.size(), "?"));
+            try (PreparedStatement statement = connection.prepareStatement(
+                    "SELECT post_id, user_id FROM post_likes WHERE post_id IN (" + placeholders + ")")) {
+                for (int i = 0; i < chunk.size(); i++) {
+                    statement.setLong(i + 1, chunk.get(i));
+                }
+                try (ResultSet rows = statement.executeQuery()) {
+                    while (rows.next()) {
+                        likedByUserIds.computeIfAbsent(rows.getLong(1), id -> new ArrayList<>()).add(rows.getLong(2));
+                    }
+                }
+            }
+        }
+        return likedByUserIds;
+    }
+}
@@ -0,0 +1,125 @@
+package com.codingshuttle.linkedin.posts_service.service;
+
+import com.codingshuttle.linkedin.event.PostCreatedEvent;
+import com.codingshuttle.linkedin.posts_service.dto.PostDto;
+import com.codingshuttle.linkedin.posts_service.entity.Post;
+import com.codingshuttle.linkedin.posts_service.repository.PostLikeRepository;
+import com.codingshuttle.linkedin.posts_service.repository.PostRepository;
+import com.codingshuttle.linkedin.posts_service.repository.projection.PostLikeProjection;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.modelmapper.ModelMapper;
+import org.springframework.kafka.core.KafkaTemplate;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+class PostServiceTest {
+
+    private static final long USER_ID = 7L;
+
+    private PostRepository postRepository;
+    private PostLikeRepository postLikeRepository;
+    private PostService postService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        postRepository = mock(PostRepository.class);
+        postLikeRepository = mock(PostLikeRepository.class);
+        postService = new PostService(postRepository, postLikeRepository, new ModelMapper(),
+                mock(PostCache.class), mock(KafkaTemplate.class));
+
+        // Every post is liked by two users
+        when(postLikeRepository.findLikersByPostIdIn(anyCollection())).thenAnswer(invocation -> {
+            Collection<Long> postIds = invocation.getArgument(0);
+            return postIds.stream()
+                    .flatMap(postId -> LongStream.of(100, 200).mapToObj(userId -> (PostLikeProjection) new Like(postId, userId)))
+                    .toList();
+        });
+    }
+
+    @Test
+    void loadsLikesWithOneQueryForFewPosts() {
+        givenPosts(10);
+
+        List<PostDto> postDtos = postService.getAllPostsForUser(USER_ID, true);
+
+        assertThat(postDtos).hasSize(10)
+                .allSatisfy(postDto -> assertThat(postDto.getLikedByUserIds()).containsExactly(100L, 200L));
+        verify(postRepository, times(1)).findAllByUserId(USER_ID);
+        verify(postLikeRepository, times(1)).findLikersByPostIdIn(anyCollection());
+        verifyNoMoreInteractions(postLikeRepository);
+    }
+
+    @Test
+    void queryCountDependsOnChunksNotOnPosts() {
+        int posts = 10_000;
+        givenPosts(posts);
+
+        List<PostDto> postDtos = postService.getAllPostsForUser(USER_ID, true);
+
+        assertThat(postDtos).hasSize(posts);
+        assertThat(postDtos.get(posts - 1).getLikedByUserIds()).containsExactly(100L, 200L);
+        verify(postRepository, times(1)).findAllByUserId(USER_ID);
+        verify(postLikeRepository, times(posts / PostService.LIKES_QUERY_CHUNK_SIZE)).findLikersByPostIdIn(anyCollection());
+        verifyNoMoreInteractions(postLikeRepository);
+    }
+
+    @Test
+    void postsWithoutLikesGetEmptyList() {
+        givenPosts(3);
+        when(postLikeRepository.findLikersByPostIdIn(anyCollection())).thenReturn(List.of());
+
+        List<PostDto> postDtos = postService.getAllPostsForUser(USER_ID, true);
+
+        assertThat(postDtos).allSatisfy(postDto -> assertThat(postDto.getLikedByUserIds()).isEmpty());
+    }
+
+    @Test
+    void likersAreNotLoadedUnlessRequested() {
+        givenPosts(10);
+
+        List<PostDto> postDtos = postService.getAllPostsForUser(USER_ID, false);
+
+        assertThat(postDtos).hasSize(10)
+                .allSatisfy(postDto -> assertThat(postDto.getLikedByUserIds()).isNull());
+        verify(postLikeRepository, never()).findLikersByPostIdIn(anyCollection());
+    }
+
+    private void givenPosts(int count) {
+        List<Post> posts = LongStream.rangeClosed(1, count)
+                .mapToObj(id -> {
+                    Post post = new Post();
+                    post.setId(id);
+                    post.setUserId(USER_ID);
+                    post.setContent("post " + id);
+                    return post;
+                })
+                .toList();
+        when(postRepository.findAllByUserId(USER_ID)).thenReturn(posts);
+    }
+
+    private record Like(Long postId, Long userId) implements PostLikeProjection {
+
+        @Override
+        public Long getPostId() {
+            return postId;
+        }
+
+        @Override
+        public Long getUserId() {
+            return userId;
+        }
+    }
+}
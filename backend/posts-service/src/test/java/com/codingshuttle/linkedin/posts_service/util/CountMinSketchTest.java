@@ -0,0 +1,60 @@
+package com.codingshuttle.linkedin.posts_service.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CountMinSketchTest {
+
+    private static final int EVENTS = 500_000;
+
+    @Test
+    void neverUndercountsAndStaysWithinErrorBoundOnZipfianLoad() {
+        CountMinSketch sketch = new CountMinSketch(2048, 4);
+        Map<Long, Long> exact = new HashMap<>();
+        ZipfianGenerator zipf = new ZipfianGenerator(100_000, 1.1, 42);
+        for (int i = 0; i < EVENTS; i++) {
+            long key = zipf.next();
+            sketch.add(key, 1);
+            exact.merge(key, 1L, Long::sum);
+        }
+
+        double bound = Math.E / sketch.getWidth() * EVENTS;
+        long outsideBound = exact.entrySet().stream()
+                .filter(entry -> sketch.estimate(entry.getKey()) - entry.getValue() > bound)
+                .count();
+
+        assertThat(sketch.getTotal()).isEqualTo(EVENTS);
+        assertThat(exact).allSatisfy((key, count) -> assertThat(sketch.estimate(key)).isGreaterThanOrEqualTo(count));
+        // Each estimate exceeds the bound with probability at most e^-depth (~1.8%)
+        assertThat((double) outsideBound / exact.size()).isLessThan(Math.exp(-4));
+    }
+
+    @Test
+    void mergedSketchEqualsOneFedWithEverything() {
+        CountMinSketch first = new CountMinSketch(256, 3);
+        CountMinSketch second = new CountMinSketch(256, 3);
+        CountMinSketch all = new CountMinSketch(256, 3);
+        for (long key = 0; key < 1000; key++) {
+            (key % 2 == 0 ? first : second).add(key, key);
+            all.add(key, key);
+        }
+
+        first.merge(second);
+
+        for (long key = 0; key < 1000; key++) {
+            assertThat(first.estimate(key)).isEqualTo(all.estimate(key));
+        }
+        assertThat(first.getTotal()).isEqualTo(all.getTotal());
+    }
+
+    @Test
+    void roundsWidthUpToPowerOfTwo() {
+        assertThat(new CountMinSketch(1000, 2).getWidth()).isEqualTo(1024);
+        assertThat(new CountMinSketch(1024, 2).getWidth()).isEqualTo(1024);
+        assertThat(new CountMinSketch(1, 2).getWidth()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,57 @@
+package com.codingshuttle.linkedin.posts_service.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InvertedIndexTest {
+
+    @Test
+    void ranksByBm25() {
+        InvertedIndex index = new InvertedIndex();
+        index.add(1, "Spring Boot microservices with Kafka");
+        index.add(2, "Cooking pasta at home");
+        index.add(3, "Kafka streams and Kafka Connect");
+
+        List<InvertedIndex.Hit> hits = index.search("kafka", 10);
+
+        assertThat(hits).extracting(InvertedIndex.Hit::docId).containsExactly(3L, 1L);
+        assertThat(index.search("pasta kafka", 1)).extracting(InvertedIndex.Hit::docId).containsExactly(2L);
+        assertThat(index.search("the", 10)).isEmpty();
+    }
+
+    @Test
+    void ignoresDuplicatesAndAcceptsOutOfOrderDocuments() {
+        InvertedIndex index = new InvertedIndex();
+        index.add(10, "hello search");
+        index.add(5, "hello again");
+
+        assertThat(index.add(10, "hello search")).isFalse();
+        assertThat(index.add(5, "hello again")).isFalse();
+        assertThat(index.getDocumentCount()).isEqualTo(2);
+        assertThat(index.getMaxDocId()).isEqualTo(10);
+        assertThat(index.search("hello", 10)).extracting(InvertedIndex.Hit::docId).containsExactlyInAnyOrder(5L, 10L);
+    }
+
+    @Test
+    void snapshotRoundTripsTheIndex() throws Exception {
+        InvertedIndex index = new InvertedIndex();
+        for (long docId = 1; docId <= 1_000; docId++) {
+            index.add(docId, "post number " + docId + (docId % 10 == 0 ? " about kafka" : " about java"));
+        }
+
+        ByteArrayOutputStream snapshot = new ByteArrayOutputStream();
+        index.writeTo(snapshot);
+        InvertedIndex restored = InvertedIndex.readFrom(new ByteArrayInputStream(snapshot.toByteArray()));
+
+        assertThat(restored.getDocumentCount()).isEqualTo(index.getDocumentCount());
+        assertThat(restored.getMaxDocId()).isEqualTo(1_000);
+        assertThat(restored.search("kafka", 5)).isEqualTo(index.search("kafka", 5));
+        assertThat(restored.add(500, "post number 500 about kafka")).isFalse();
+        assertThat(restored.add(1_001, "new kafka post")).isTrue();
+    }
+}
@@ -0,0 +1,36 @@
+package com.codingshuttle.linkedin.posts_service.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LongBitmapTest {
+
+    @Test
+    void addsEachValueOnce() {
+        LongBitmap bitmap = new LongBitmap();
+
+        assertThat(bitmap.add(42)).isTrue();
+        assertThat(bitmap.add(42)).isFalse();
+        assertThat(bitmap.contains(42)).isTrue();
+        assertThat(bitmap.contains(43)).isFalse();
+        assertThat(bitmap.size()).isEqualTo(1);
+    }
+
+    @Test
+    void handlesPageBoundariesAndLargeValues() {
+        LongBitmap bitmap = new LongBitmap();
+        long[] values = {0, 63, 64, 65_535, 65_536, Integer.MAX_VALUE + 1L, Long.MAX_VALUE};
+        for (long value : values) {
+            assertThat(bitmap.add(value)).isTrue();
+        }
+
+        for (long value : values) {
+            assertThat(bitmap.contains(value)).isTrue();
+        }
+        assertThat(bitmap.contains(1)).isFalse();
+        assertThat(bitmap.contains(65_537)).isFalse();
+        assertThat(bitmap.contains(Long.MAX_VALUE - 1)).isFalse();
+        assertThat(bitmap.size()).isEqualTo(values.length);
+    }
+}
@@ -0,0 +1,47 @@
+package com.codingshuttle.linkedin.posts_service.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LongRingBufferTest {
+
+    @Test
+    void keepsNewestValuesOnceFull() {
+        LongRingBuffer buffer = new LongRingBuffer(3);
+        for (long postId = 1; postId <= 5; postId++) {
+            buffer.add(postId);
+        }
+
+        assertThat(buffer.size()).isEqualTo(3);
+        assertThat(buffer.pageBefore(Long.MAX_VALUE, 10)).containsExactly(5, 4, 3);
+    }
+
+    @Test
+    void keepsOrderForOutOfOrderAndDuplicateValues() {
+        LongRingBuffer buffer = new LongRingBuffer(4);
+
+        assertThat(buffer.add(10)).isTrue();
+        assertThat(buffer.add(30)).isTrue();
+        assertThat(buffer.add(20)).isTrue();
+        assertThat(buffer.add(20)).isFalse();
+        assertThat(buffer.add(40)).isTrue();
+        assertThat(buffer.add(5)).isFalse();
+        assertThat(buffer.add(25)).isTrue();
+
+        assertThat(buffer.pageBefore(Long.MAX_VALUE, 10)).containsExactly(40, 30, 25, 20);
+    }
+
+    @Test
+    void pagesBackwardsFromCursor() {
+        LongRingBuffer buffer = new LongRingBuffer(100);
+        for (long postId = 1; postId <= 250; postId++) {
+            buffer.add(postId);
+        }
+
+        assertThat(buffer.pageBefore(Long.MAX_VALUE, 3)).containsExactly(250, 249, 248);
+        assertThat(buffer.pageBefore(248, 3)).containsExactly(247, 246, 245);
+        assertThat(buffer.pageBefore(153, 5)).containsExactly(152, 151);
+        assertThat(buffer.pageBefore(151, 5)).isEmpty();
+    }
+}
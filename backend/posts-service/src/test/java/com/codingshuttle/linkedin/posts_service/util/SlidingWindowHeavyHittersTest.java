@@ -0,0 +1,80 @@
+package com.codingshuttle.linkedin.posts_service.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SlidingWindowHeavyHittersTest {
+
+    private static final long MINUTE = Duration.ofMinutes(1).toMillis();
+    private static final int TOP = 20;
+
+    @Test
+    void topKMatchesExactCountsOnZipfianLoad() {
+        SlidingWindowHeavyHitters hitters = newMinuteHitters();
+        Map<Long, Long> exact = new HashMap<>();
+        ZipfianGenerator zipf = new ZipfianGenerator(100_000, 1.1, 7);
+        int events = 600_000;
+        for (int i = 0; i < events; i++) {
+            long key = zipf.next();
+            hitters.add(key, (long) i * 60 * MINUTE / events);
+            exact.merge(key, 1L, Long::sum);
+        }
+
+        List<SlidingWindowHeavyHitters.Hit> top = hitters.top(60, TOP, 60 * MINUTE - 1);
+
+        Set<Long> exactTop = exact.entrySet().stream()
+                .sorted(Map.Entry.<Long, Long>comparingByValue().reversed())
+                .limit(TOP)
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toSet());
+        long found = top.stream().filter(hit -> exactTop.contains(hit.key())).count();
+        assertThat(top).hasSize(TOP).isSortedAccordingTo(
+                Comparator.comparingLong(SlidingWindowHeavyHitters.Hit::count).reversed());
+        assertThat((double) found / TOP).isGreaterThanOrEqualTo(0.95);
+        // Summing 60 sketches of 2048 columns keeps the overall error at e / 2048 of all events
+        double bound = Math.E / 2048 * events;
+        assertThat(top).allSatisfy(hit -> assertThat(hit.count())
+                .isBetween(exact.get(hit.key()), exact.get(hit.key()) + (long) bound));
+    }
+
+    @Test
+    void onlyCountsBucketsInsideWindow() {
+        SlidingWindowHeavyHitters hitters = newMinuteHitters();
+        for (int i = 0; i < 10; i++) {
+            hitters.add(1, 0);
+        }
+        for (int i = 0; i < 3; i++) {
+            hitters.add(2, 10 * MINUTE);
+        }
+
+        assertThat(hitters.top(5, TOP, 10 * MINUTE))
+                .containsExactly(new SlidingWindowHeavyHitters.Hit(2, 3));
+        assertThat(hitters.top(60, TOP, 10 * MINUTE))
+                .containsExactly(new SlidingWindowHeavyHitters.Hit(1, 10), new SlidingWindowHeavyHitters.Hit(2, 3));
+    }
+
+    @Test
+    void reusesBucketsOnceTheRingWrapsAround() {
+        SlidingWindowHeavyHitters hitters = newMinuteHitters();
+        hitters.add(1, 0);
+        hitters.add(2, 60 * MINUTE);
+        // Minute 0 has been overwritten by minute 60, so this is dropped
+        hitters.add(3, 0);
+
+        assertThat(hitters.top(60, TOP, 60 * MINUTE))
+                .containsExactly(new SlidingWindowHeavyHitters.Hit(2, 1));
+    }
+
+    private static SlidingWindowHeavyHitters newMinuteHitters() {
+        return new SlidingWindowHeavyHitters(Duration.ofMinutes(1), 60, 2048, 4, 256);
+    }
+}
@@ -0,0 +1,31 @@
+package com.codingshuttle.linkedin.posts_service.util;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Draws keys {@code 1..n} with probability proportional to {@code 1 / rank^exponent}, like likes on posts.
+ */
+class ZipfianGenerator {
+
+    private final double[] cumulative;
+    private final Random random;
+
+    ZipfianGenerator(int n, double exponent, long seed) {
+        this.cumulative = new double[n];
+        double sum = 0;
+        for (int rank = 1; rank <= n; rank++) {
+            sum += 1 / Math.pow(rank, exponent);
+            cumulative[rank - 1] = sum;
+        }
+        for (int i = 0; i < n; i++) {
+            cumulative[i] /= sum;
+        }
+        this.random = new Random(seed);
+    }
+
+    long next() {
+        int index = Arrays.binarySearch(cumulative, random.nextDouble());
+        return (index >= 0 ? index : -index - 1) + 1;
+    }
+}
@@ -1,8 +1,18 @@
 package com.codingshuttle.linkedin.user_service.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
 import org.modelmapper.ModelMapper;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 @Configuration
 public class AppConfig {
@@ -12,4 +22,20 @@ public class AppConfig {
         return new ModelMapper();
     }
 
+    /**
+     * Runs the database work that follows a BCrypt step (saving the user, rehashing), so that the bcrypt
+     * pool only ever does CPU work. Sized to the connection pool; a full queue fails fast like the bcrypt pool.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService authIoExecutor(@Value("${auth.io.threads:10}") int threads,
+                                          @Value("${auth.io.queue-capacity:200}") int queueCapacity,
+                                          MeterRegistry meterRegistry) {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("auth-io-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        new ExecutorServiceMetrics(executor, "auth-io", Tags.empty()).bindTo(meterRegistry);
+        return executor;
+    }
+
 }
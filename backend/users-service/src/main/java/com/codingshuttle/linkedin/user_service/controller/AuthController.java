@@ -13,6 +13,8 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.concurrent.CompletableFuture;
+
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/auth")
@@ -22,15 +24,14 @@ public class AuthController {
     private final ModelMapper modelMapper;
 
     @PostMapping("/signup")
-    public ResponseEntity<UserDto> signup(@RequestBody SignupRequestDto signupRequestDto) {
-        UserDto userDto = authService.signup(signupRequestDto);
-        return ResponseEntity.status(HttpStatus.CREATED).body(userDto);
+    public CompletableFuture<ResponseEntity<UserDto>> signup(@RequestBody SignupRequestDto signupRequestDto) {
+        return authService.signup(signupRequestDto)
+                .thenApply(userDto -> ResponseEntity.status(HttpStatus.CREATED).body(userDto));
     }
 
     @PostMapping("/login")
-    public ResponseEntity<String> login(@RequestBody LoginRequestDto loginRequestDto) {
-        String jwtToken = authService.login(loginRequestDto);
-        return ResponseEntity.ok(jwtToken);
+    public CompletableFuture<ResponseEntity<String>> login(@RequestBody LoginRequestDto loginRequestDto) {
+        return authService.login(loginRequestDto).thenApply(ResponseEntity::ok);
     }
 
 }
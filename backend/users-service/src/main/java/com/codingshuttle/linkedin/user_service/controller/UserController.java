@@ -0,0 +1,26 @@
+package com.codingshuttle.linkedin.user_service.controller;
+
+import com.codingshuttle.linkedin.user_service.dto.UserDto;
+import com.codingshuttle.linkedin.user_service.service.UserService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/core")
+public class UserController {
+
+    private final UserService userService;
+
+    @PostMapping("/bulk")
+    public ResponseEntity<List<UserDto>> getUsersByIds(@RequestBody List<Long> userIds) {
+        return ResponseEntity.ok(userService.getUsersByIds(userIds));
+    }
+
+}
@@ -0,0 +1,31 @@
+package com.codingshuttle.linkedin.user_service.controller;
+
+import com.codingshuttle.linkedin.user_service.dto.UserImportResultDto;
+import com.codingshuttle.linkedin.user_service.service.UserImportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/admin/users")
+public class UserImportController {
+
+    private final UserImportService userImportService;
+
+    @PostMapping(value = "/import", consumes = {"text/csv", MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<UserImportResultDto> importUsers(@RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+                                                           InputStream body) throws IOException {
+        boolean ndjson = MediaType.parseMediaType(contentType).isCompatibleWith(MediaType.APPLICATION_NDJSON);
+        return ResponseEntity.ok(userImportService.importUsers(body, ndjson));
+    }
+
+}
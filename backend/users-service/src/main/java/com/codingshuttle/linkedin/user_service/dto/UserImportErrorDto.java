@@ -0,0 +1,14 @@
+package com.codingshuttle.linkedin.user_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserImportErrorDto {
+    private long line;
+    private String email;
+    private String error;
+}
@@ -0,0 +1,14 @@
+package com.codingshuttle.linkedin.user_service.dto;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+public class UserImportResultDto {
+    private long totalRows;
+    private long imported;
+    private long failed;
+    private List<UserImportErrorDto> errors = new ArrayList<>();
+}
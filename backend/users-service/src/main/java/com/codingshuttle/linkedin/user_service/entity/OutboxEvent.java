@@ -0,0 +1,31 @@
+package com.codingshuttle.linkedin.user_service.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Getter
+@Setter
+@Table(name = "outbox_events")
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String topic;
+
+    private Long messageKey;
+
+    @Column(nullable = false, columnDefinition = "text")
+    private String payload;
+
+    @CreationTimestamp
+    private LocalDateTime createdAt;
+
+}
@@ -0,0 +1,47 @@
+package com.codingshuttle.linkedin.user_service.repository;
+
+import com.codingshuttle.linkedin.user_service.entity.User;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+@RequiredArgsConstructor
+public class UserBulkRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Inserts all users with a single multi-row statement. Users whose email is already registered
+     * are skipped by the unique constraint.
+     *
+     * @return ids of the inserted users, keyed by email
+     */
+    public Map<String, Long> insertIgnoringExisting(List<User> users) {
+        if (users.isEmpty()) {
+            return Map.of();
+        }
+        String values = String.join(", ", Collections.nCopies(users.size(), "(?, ?, ?)"));
+        Object[] args = new Object[users.size() * 3];
+        for (int i = 0; i < users.size(); i++) {
+            User user = users.get(i);
+            args[i * 3] = user.getName();
+            args[i * 3 + 1] = user.getEmail();
+            args[i * 3 + 2] = user.getPassword();
+        }
+
+        Map<String, Long> insertedIds = new HashMap<>();
+        jdbcTemplate.query("INSERT INTO users (name, email, password) VALUES " + values +
+                        " ON CONFLICT (email) DO NOTHING RETURNING id, email",
+                rs -> {
+                    insertedIds.put(rs.getString("email"), rs.getLong("id"));
+                },
+                args);
+        return insertedIds;
+    }
+}
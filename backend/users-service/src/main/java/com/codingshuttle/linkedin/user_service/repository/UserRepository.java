@@ -1,14 +1,30 @@
 package com.codingshuttle.linkedin.user_service.repository;
 
+import com.codingshuttle.linkedin.user_service.dto.UserDto;
 import com.codingshuttle.linkedin.user_service.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
     boolean existsByEmail(String email);
 
     Optional<User> findByEmail(String email);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("select u.email from User u")
+    Stream<String> streamAllEmails();
+
+    @Query("select new com.codingshuttle.linkedin.user_service.dto.UserDto(u.id, u.name, u.email) from User u where u.id in :ids")
+    List<UserDto> findUserDtosByIdIn(@Param("ids") Collection<Long> ids);
 }
\ No newline at end of file
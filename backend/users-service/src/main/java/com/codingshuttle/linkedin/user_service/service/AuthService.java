@@ -8,11 +8,17 @@ import com.codingshuttle.linkedin.event.UserCreatedEvent;
 import com.codingshuttle.linkedin.user_service.exception.BadRequestException;
 import com.codingshuttle.linkedin.user_service.exception.ResourceNotFoundException;
 import com.codingshuttle.linkedin.user_service.repository.UserRepository;
-import com.codingshuttle.linkedin.user_service.util.PasswordUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.modelmapper.ModelMapper;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
 
 @Service
 @RequiredArgsConstructor
@@ -22,35 +28,104 @@ public class AuthService {
     private final ModelMapper modelMapper;
     private final UserRepository userRepository;
     private final JwtService jwtService;
-    private final KafkaProducerService kafkaProducerService;
+    private final OutboxService outboxService;
+    private final TransactionTemplate transactionTemplate;
+    private final PasswordHashingService passwordHashingService;
+    private final EmailExistenceFilter emailExistenceFilter;
+    private final UserService userService;
+    private final ExecutorService authIoExecutor;
 
-    public UserDto signup(SignupRequestDto signupRequestDto) {
-        boolean userExists = userRepository.existsByEmail(signupRequestDto.getEmail());
+    public CompletableFuture<UserDto> signup(SignupRequestDto signupRequestDto) {
+        boolean userExists = emailExistenceFilter.isRegistered(signupRequestDto.getEmail());
         if (userExists) {
             throw new BadRequestException("Email is already registered");
         }
-        User user = modelMapper.map(signupRequestDto, User.class);
-        user.setPassword(PasswordUtil.hashPassword(signupRequestDto.getPassword()));
-        user = userRepository.save(user);
-
-        // Publish UserCreatedEvent to Kafka
-        UserCreatedEvent event = UserCreatedEvent.builder()
-                .userId(user.getId())
-                .name(user.getName())
-                .email(user.getEmail())
-                .build();
-        kafkaProducerService.publishUserCreatedEvent(event);
-        log.info("Published UserCreatedEvent for userId: {}", user.getId());
-
-        return modelMapper.map(user, UserDto.class);
+        return onAuthIo(passwordHashingService.hash(signupRequestDto.getPassword()),
+                hashedPassword -> createUser(signupRequestDto, hashedPassword));
+    }
+
+    private UserDto createUser(SignupRequestDto signupRequestDto, String hashedPassword) {
+        User newUser = modelMapper.map(signupRequestDto, User.class);
+        newUser.setPassword(hashedPassword);
+        User user;
+        try {
+            // The user row and its UserCreatedEvent commit together; OutboxRelay publishes the event
+            user = transactionTemplate.execute(status -> {
+                User savedUser = userRepository.save(newUser);
+                outboxService.saveUserCreatedEvent(UserCreatedEvent.builder()
+                        .userId(savedUser.getId())
+                        .name(savedUser.getName())
+                        .email(savedUser.getEmail())
+                        .build());
+                return savedUser;
+            });
+        } catch (DataIntegrityViolationException e) {
+            // Lost a race with a concurrent signup for the same email
+            throw new BadRequestException("Email is already registered");
+        }
+        emailExistenceFilter.add(user.getEmail());
+
+        UserDto userDto = modelMapper.map(user, UserDto.class);
+        userService.cacheUser(userDto);
+        return userDto;
     }
 
-    public String login(LoginRequestDto loginRequestDto) {
+    public CompletableFuture<String> login(LoginRequestDto loginRequestDto) {
         User user = userRepository.findByEmail(loginRequestDto.getEmail())
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with email: " + loginRequestDto.getEmail()));
-        if (!PasswordUtil.verifyPassword(loginRequestDto.getPassword(), user.getPassword())) {
-            throw new BadRequestException("Invalid credentials");
+        return onAuthIo(passwordHashingService.verify(loginRequestDto.getPassword(), user.getPassword()),
+                valid -> {
+                    if (!valid) {
+                        throw new BadRequestException("Invalid credentials");
+                    }
+                    if (passwordHashingService.needsRehash(user.getPassword())) {
+                        rehashPassword(user, loginRequestDto.getPassword());
+                    }
+                    return jwtService.generateToken(user);
+                });
+    }
+
+    // Upgrade hashes created with an outdated cost; runs in the background and never fails the login
+    private void rehashPassword(User user, String password) {
+        try {
+            onAuthIo(passwordHashingService.hash(password), hashedPassword -> {
+                user.setPassword(hashedPassword);
+                userRepository.save(user);
+                log.info("Rehashed password with current BCrypt cost for userId: {}", user.getId());
+                return null;
+            }).exceptionally(e -> {
+                log.warn("Failed to rehash password for userId: {}", user.getId(), e);
+                return null;
+            });
+        } catch (RejectedExecutionException e) {
+            log.warn("BCrypt executor saturated, skipping rehash for userId: {}", user.getId());
         }
-        return jwtService.generateToken(user);
+    }
+
+    /**
+     * Continues {@code stage} on the auth-io executor. Unlike {@code thenApplyAsync}, a rejection by the
+     * saturated executor fails the returned future with {@link RejectedExecutionException} instead of
+     * being thrown on the bcrypt thread and leaving the future incomplete.
+     */
+    private <T, R> CompletableFuture<R> onAuthIo(CompletableFuture<T> stage, Function<? super T, ? extends R> action) {
+        CompletableFuture<R> result = new CompletableFuture<>();
+        stage.whenComplete((value, error) -> {
+            if (error != null) {
+                result.completeExceptionally(error);
+                return;
+            }
+            try {
+                authIoExecutor.execute(() -> {
+                    try {
+                        result.complete(action.apply(value));
+                    } catch (Throwable e) {
+                        result.completeExceptionally(e);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                result.completeExceptionally(e);
+            }
+        });
+        return result;
     }
 }
@@ -0,0 +1,81 @@
+package com.codingshuttle.linkedin.user_service.service;
+
+import com.codingshuttle.linkedin.user_service.repository.UserRepository;
+import com.codingshuttle.linkedin.user_service.util.BloomFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.stream.Stream;
+
+/**
+ * Bloom filter of registered emails, so that most signups with a new email skip the existence query.
+ * The unique constraint on {@code users.email} stays the source of truth. Emails are kept exactly as
+ * stored, to match that constraint and {@code existsByEmail}, which are both case-sensitive.
+ */
+@Service
+@Slf4j
+public class EmailExistenceFilter {
+
+    private final UserRepository userRepository;
+    private final BloomFilter bloomFilter;
+    private final Counter skippedLookups;
+    private final Counter databaseLookups;
+    private final Counter falsePositives;
+
+    // Until the users table has been loaded every check goes to the database
+    private volatile boolean ready;
+
+    public EmailExistenceFilter(UserRepository userRepository,
+                                MeterRegistry meterRegistry,
+                                @Value("${users.email-filter.expected-insertions:1000000}") long expectedInsertions,
+                                @Value("${users.email-filter.fpp:0.01}") double falsePositiveProbability) {
+        this.userRepository = userRepository;
+        this.bloomFilter = new BloomFilter(expectedInsertions, falsePositiveProbability);
+
+        Gauge.builder("users.email-filter.memory", bloomFilter, BloomFilter::sizeInBytes)
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("users.email-filter.expected-fpp", bloomFilter, BloomFilter::expectedFalsePositiveProbability)
+                .register(meterRegistry);
+        Gauge.builder("users.email-filter.insertions", bloomFilter, BloomFilter::insertions)
+                .register(meterRegistry);
+        this.skippedLookups = meterRegistry.counter("users.email-filter.checks", "result", "skipped");
+        this.databaseLookups = meterRegistry.counter("users.email-filter.checks", "result", "database");
+        this.falsePositives = meterRegistry.counter("users.email-filter.checks", "result", "false-positive");
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void loadExistingEmails() {
+        try (Stream<String> emails = userRepository.streamAllEmails()) {
+            emails.forEach(bloomFilter::put);
+        }
+        ready = true;
+        log.info("Loaded {} emails into the email Bloom filter ({} bytes)",
+                bloomFilter.insertions(), bloomFilter.sizeInBytes());
+    }
+
+    public boolean isRegistered(String email) {
+        if (ready && !bloomFilter.mightContain(email)) {
+            skippedLookups.increment();
+            return false;
+        }
+        databaseLookups.increment();
+        boolean exists = userRepository.existsByEmail(email);
+        if (ready && !exists) {
+            falsePositives.increment();
+        }
+        return exists;
+    }
+
+    public void add(String email) {
+        bloomFilter.put(email);
+    }
+}
@@ -1,12 +1,14 @@
 package com.codingshuttle.linkedin.user_service.service;
 
-import com.codingshuttle.linkedin.user_service.config.KafkaTopicConfig;
 import com.codingshuttle.linkedin.event.UserCreatedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Service;
 
+import java.util.concurrent.CompletableFuture;
+
 @Service
 @RequiredArgsConstructor
 @Slf4j
@@ -14,9 +16,8 @@ public class KafkaProducerService {
 
     private final KafkaTemplate<Long, UserCreatedEvent> kafkaTemplate;
 
-    public void publishUserCreatedEvent(UserCreatedEvent event) {
-        log.info("Publishing UserCreatedEvent: {}", event);
-        kafkaTemplate.send(KafkaTopicConfig.USER_CREATED_TOPIC, event.getUserId(), event);
+    public CompletableFuture<SendResult<Long, UserCreatedEvent>> publish(String topic, Long key, UserCreatedEvent event) {
+        log.debug("Publishing UserCreatedEvent: {}", event);
+        return kafkaTemplate.send(topic, key, event);
     }
 }
-
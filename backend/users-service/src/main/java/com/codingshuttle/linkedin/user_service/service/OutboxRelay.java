@@ -0,0 +1,113 @@
+package com.codingshuttle.linkedin.user_service.service;
+
+import com.codingshuttle.linkedin.event.UserCreatedEvent;
+import com.codingshuttle.linkedin.user_service.entity.OutboxEvent;
+import com.codingshuttle.linkedin.user_service.repository.OutboxEventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Drains the outbox table in batches: locks the oldest rows, sends them all asynchronously, waits for
+ * the broker acks and deletes only the rows that were acknowledged. Anything that failed stays in the
+ * table and is retried on the next run, so delivery is at-least-once.
+ */
+@Service
+@Slf4j
+public class OutboxRelay {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final KafkaProducerService kafkaProducerService;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+    private final Duration sendTimeout;
+    private final Counter relayedEvents;
+    private final Counter failedEvents;
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository,
+                       KafkaProducerService kafkaProducerService,
+                       TransactionTemplate transactionTemplate,
+                       ObjectMapper objectMapper,
+                       MeterRegistry meterRegistry,
+                       @Value("${outbox.relay.batch-size:500}") int batchSize,
+                       @Value("${outbox.relay.send-timeout:10s}") Duration sendTimeout) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.kafkaProducerService = kafkaProducerService;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.batchSize = batchSize;
+        this.sendTimeout = sendTimeout;
+        this.relayedEvents = meterRegistry.counter("users.outbox.events", "result", "relayed");
+        this.failedEvents = meterRegistry.counter("users.outbox.events", "result", "failed");
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.relay.interval:200ms}")
+    public void relay() {
+        int relayed;
+        do {
+            relayed = transactionTemplate.execute(status -> relayBatch());
+        } while (relayed == batchSize);
+    }
+
+    private int relayBatch() {
+        List<OutboxEvent> batch = outboxEventRepository.lockNextBatch(batchSize);
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        List<CompletableFuture<?>> sends = new ArrayList<>(batch.size());
+        for (OutboxEvent outboxEvent : batch) {
+            sends.add(send(outboxEvent));
+        }
+        try {
+            CompletableFuture.allOf(sends.toArray(CompletableFuture[]::new))
+                    .get(sendTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException | TimeoutException e) {
+            // Some sends failed, the acknowledged ones are still deleted below
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        List<Long> acknowledged = new ArrayList<>(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            CompletableFuture<?> send = sends.get(i);
+            if (send.isDone() && !send.isCompletedExceptionally()) {
+                acknowledged.add(batch.get(i).getId());
+            }
+        }
+        outboxEventRepository.deleteAllByIdInBatch(acknowledged);
+
+        int failed = batch.size() - acknowledged.size();
+        relayedEvents.increment(acknowledged.size());
+        if (failed > 0) {
+            failedEvents.increment(failed);
+            log.warn("Outbox relay: {} of {} events not acknowledged, will retry", failed, batch.size());
+            return 0;
+        }
+        return acknowledged.size();
+    }
+
+    private CompletableFuture<?> send(OutboxEvent outboxEvent) {
+        try {
+            UserCreatedEvent event = objectMapper.readValue(outboxEvent.getPayload(), UserCreatedEvent.class);
+            return kafkaProducerService.publish(outboxEvent.getTopic(), outboxEvent.getMessageKey(), event);
+        } catch (JsonProcessingException | RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.codingshuttle.linkedin.user_service.service;
+
+import com.codingshuttle.linkedin.event.UserCreatedEvent;
+import com.codingshuttle.linkedin.user_service.config.KafkaTopicConfig;
+import com.codingshuttle.linkedin.user_service.entity.OutboxEvent;
+import com.codingshuttle.linkedin.user_service.repository.OutboxEventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Writes events to the outbox table. Callers must already be inside the transaction that changes the
+ * user rows, so an event is stored if and only if that change commits; {@link OutboxRelay} publishes it.
+ */
+@Service
+@RequiredArgsConstructor
+public class OutboxService {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void saveUserCreatedEvent(UserCreatedEvent event) {
+        OutboxEvent outboxEvent = new OutboxEvent();
+        outboxEvent.setTopic(KafkaTopicConfig.USER_CREATED_TOPIC);
+        outboxEvent.setMessageKey(event.getUserId());
+        outboxEvent.setPayload(toJson(event));
+        outboxEventRepository.save(outboxEvent);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void saveUserCreatedEvents(List<UserCreatedEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO outbox_events (topic, message_key, payload, created_at) VALUES (?, ?, ?, now())",
+                events, events.size(), (ps, event) -> {
+                    ps.setString(1, KafkaTopicConfig.USER_CREATED_TOPIC);
+                    ps.setLong(2, event.getUserId());
+                    ps.setString(3, toJson(event));
+                });
+    }
+
+    private String toJson(UserCreatedEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize " + event, e);
+        }
+    }
+}
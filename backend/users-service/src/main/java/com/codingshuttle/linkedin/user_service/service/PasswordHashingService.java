@@ -0,0 +1,89 @@
+package com.codingshuttle.linkedin.user_service.service;
+
+import com.codingshuttle.linkedin.user_service.util.PasswordUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs CPU-bound BCrypt work on a dedicated pool sized to the number of cores, so that hashing does
+ * not hold Tomcat request threads. The queue is bounded and a full queue fails fast with
+ * {@link java.util.concurrent.RejectedExecutionException}.
+ */
+@Service
+@Slf4j
+public class PasswordHashingService {
+
+    private final int cost;
+    private final ThreadPoolExecutor executor;
+
+    public PasswordHashingService(@Value("${bcrypt.cost:10}") int cost,
+                                  @Value("${bcrypt.threads:0}") int threads,
+                                  @Value("${bcrypt.queue-capacity:100}") int queueCapacity,
+                                  MeterRegistry meterRegistry) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.cost = cost;
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("bcrypt-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        new ExecutorServiceMetrics(executor, "bcrypt", Tags.empty()).bindTo(meterRegistry);
+        log.info("BCrypt executor started with {} threads, queue capacity {}, cost {}", poolSize, queueCapacity, cost);
+    }
+
+    public CompletableFuture<String> hash(String password) {
+        return CompletableFuture.supplyAsync(() -> PasswordUtil.hashPassword(password, cost), executor);
+    }
+
+    public CompletableFuture<Boolean> verify(String password, String hashedPassword) {
+        return CompletableFuture.supplyAsync(() -> PasswordUtil.verifyPassword(password, hashedPassword), executor);
+    }
+
+    /**
+     * Hashes a batch in parallel, one slice per pool thread so that a large batch never floods the
+     * queue. Slices that are rejected by a saturated pool are hashed on the calling thread.
+     */
+    public List<String> hashAll(List<String> passwords) {
+        int sliceSize = Math.max(1, (passwords.size() + executor.getCorePoolSize() - 1) / executor.getCorePoolSize());
+        List<CompletableFuture<List<String>>> slices = new ArrayList<>();
+        for (int from = 0; from < passwords.size(); from += sliceSize) {
+            List<String> slice = passwords.subList(from, Math.min(passwords.size(), from + sliceSize));
+            try {
+                slices.add(CompletableFuture.supplyAsync(() -> hashSlice(slice), executor));
+            } catch (RejectedExecutionException e) {
+                slices.add(CompletableFuture.completedFuture(hashSlice(slice)));
+            }
+        }
+        return slices.stream()
+                .flatMap(slice -> slice.join().stream())
+                .toList();
+    }
+
+    private List<String> hashSlice(List<String> passwords) {
+        return passwords.stream()
+                .map(password -> PasswordUtil.hashPassword(password, cost))
+                .toList();
+    }
+
+    public boolean needsRehash(String hashedPassword) {
+        return PasswordUtil.getCost(hashedPassword) != cost;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,189 @@
+package com.codingshuttle.linkedin.user_service.service;
+
+import com.codingshuttle.linkedin.event.UserCreatedEvent;
+import com.codingshuttle.linkedin.user_service.dto.SignupRequestDto;
+import com.codingshuttle.linkedin.user_service.dto.UserImportErrorDto;
+import com.codingshuttle.linkedin.user_service.dto.UserImportResultDto;
+import com.codingshuttle.linkedin.user_service.entity.User;
+import com.codingshuttle.linkedin.user_service.repository.UserBulkRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Streams a CSV ({@code name,email,password}) or NDJSON body and imports it in chunks: passwords are
+ * hashed in parallel and each chunk is a single multi-row insert, committed together with its
+ * outbox events. A bad row is reported with its line number and never aborts the import.
+ */
+@Service
+@Slf4j
+public class UserImportService {
+
+    private static final String CSV_HEADER = "name,email,password";
+    private static final int MAX_REPORTED_ERRORS = 1000;
+
+    private final UserBulkRepository userBulkRepository;
+    private final PasswordHashingService passwordHashingService;
+    private final EmailExistenceFilter emailExistenceFilter;
+    private final OutboxService outboxService;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+
+    public UserImportService(UserBulkRepository userBulkRepository,
+                             PasswordHashingService passwordHashingService,
+                             EmailExistenceFilter emailExistenceFilter,
+                             OutboxService outboxService,
+                             TransactionTemplate transactionTemplate,
+                             ObjectMapper objectMapper,
+                             @Value("${users.import.batch-size:500}") int batchSize) {
+        this.userBulkRepository = userBulkRepository;
+        this.passwordHashingService = passwordHashingService;
+        this.emailExistenceFilter = emailExistenceFilter;
+        this.outboxService = outboxService;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.batchSize = batchSize;
+    }
+
+    public UserImportResultDto importUsers(InputStream body, boolean ndjson) throws IOException {
+        UserImportResultDto result = new UserImportResultDto();
+        List<ImportRow> chunk = new ArrayList<>(batchSize);
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        String line;
+        long lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank() || (!ndjson && lineNumber == 1 && line.trim().equalsIgnoreCase(CSV_HEADER))) {
+                continue;
+            }
+            result.setTotalRows(result.getTotalRows() + 1);
+            try {
+                chunk.add(new ImportRow(lineNumber, validate(ndjson ? parseJson(line) : parseCsv(line))));
+            } catch (IllegalArgumentException e) {
+                addError(result, lineNumber, null, e.getMessage());
+            }
+            if (chunk.size() == batchSize) {
+                importChunk(chunk, result);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            importChunk(chunk, result);
+        }
+
+        log.info("User import finished: {} rows, {} imported, {} failed",
+                result.getTotalRows(), result.getImported(), result.getFailed());
+        return result;
+    }
+
+    private void importChunk(List<ImportRow> chunk, UserImportResultDto result) {
+        Map<String, ImportRow> rowsByEmail = new LinkedHashMap<>();
+        for (ImportRow row : chunk) {
+            if (rowsByEmail.putIfAbsent(row.request().getEmail(), row) != null) {
+                addError(result, row.line(), row.request().getEmail(), "Duplicate email in import");
+            }
+        }
+        List<ImportRow> rows = new ArrayList<>(rowsByEmail.values());
+
+        List<String> hashedPasswords = passwordHashingService.hashAll(
+                rows.stream().map(row -> row.request().getPassword()).toList());
+        List<User> users = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            User user = new User();
+            user.setName(rows.get(i).request().getName());
+            user.setEmail(rows.get(i).request().getEmail());
+            user.setPassword(hashedPasswords.get(i));
+            users.add(user);
+        }
+
+        Set<String> insertedEmails = new HashSet<>();
+        transactionTemplate.executeWithoutResult(status -> {
+            Map<String, Long> insertedIds = userBulkRepository.insertIgnoringExisting(users);
+            List<UserCreatedEvent> events = new ArrayList<>(insertedIds.size());
+            for (ImportRow row : rows) {
+                Long userId = insertedIds.get(row.request().getEmail());
+                if (userId != null) {
+                    insertedEmails.add(row.request().getEmail());
+                    events.add(UserCreatedEvent.builder()
+                            .userId(userId)
+                            .name(row.request().getName())
+                            .email(row.request().getEmail())
+                            .build());
+                }
+            }
+            outboxService.saveUserCreatedEvents(events);
+        });
+
+        for (ImportRow row : rows) {
+            if (insertedEmails.contains(row.request().getEmail())) {
+                emailExistenceFilter.add(row.request().getEmail());
+            } else {
+                addError(result, row.line(), row.request().getEmail(), "Email is already registered");
+            }
+        }
+        result.setImported(result.getImported() + insertedEmails.size());
+    }
+
+    private SignupRequestDto parseJson(String line) {
+        try {
+            return objectMapper.readValue(line, SignupRequestDto.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Malformed JSON: " + e.getOriginalMessage());
+        }
+    }
+
+    // Plain comma-separated values, no quoting support
+    private static SignupRequestDto parseCsv(String line) {
+        String[] columns = line.split(",", -1);
+        if (columns.length != 3) {
+            throw new IllegalArgumentException("Expected 3 columns (" + CSV_HEADER + ") but found " + columns.length);
+        }
+        SignupRequestDto request = new SignupRequestDto();
+        request.setName(columns[0]);
+        request.setEmail(columns[1]);
+        request.setPassword(columns[2]);
+        return request;
+    }
+
+    private static SignupRequestDto validate(SignupRequestDto request) {
+        if (request.getName() == null || request.getName().isBlank()) {
+            throw new IllegalArgumentException("Name is required");
+        }
+        if (request.getEmail() == null || !request.getEmail().contains("@")) {
+            throw new IllegalArgumentException("A valid email is required");
+        }
+        if (request.getPassword() == null || request.getPassword().isEmpty()) {
+            throw new IllegalArgumentException("Password is required");
+        }
+        request.setName(request.getName().trim());
+        request.setEmail(request.getEmail().trim());
+        return request;
+    }
+
+    private static void addError(UserImportResultDto result, long line, String email, String error) {
+        result.setFailed(result.getFailed() + 1);
+        if (result.getErrors().size() < MAX_REPORTED_ERRORS) {
+            result.getErrors().add(new UserImportErrorDto(line, email, error));
+        }
+    }
+
+    private record ImportRow(long line, SignupRequestDto request) {
+    }
+}
@@ -0,0 +1,67 @@
+package com.codingshuttle.linkedin.user_service.service;
+
+import com.codingshuttle.linkedin.user_service.dto.UserDto;
+import com.codingshuttle.linkedin.user_service.exception.BadRequestException;
+import com.codingshuttle.linkedin.user_service.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@Slf4j
+public class UserService {
+
+    private final UserRepository userRepository;
+    private final Cache<Long, UserDto> users;
+    private final int maxBulkIds;
+
+    public UserService(UserRepository userRepository,
+                       MeterRegistry meterRegistry,
+                       @Value("${users.cache.max-size:100000}") long maxCachedUsers,
+                       @Value("${users.bulk.max-ids:100}") int maxBulkIds) {
+        this.userRepository = userRepository;
+        this.maxBulkIds = maxBulkIds;
+        this.users = Caffeine.newBuilder()
+                .maximumSize(maxCachedUsers)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, users, "users");
+    }
+
+    /**
+     * Resolves users in request order. Cache misses are loaded together with a single {@code IN} query;
+     * unknown ids are left out of the result.
+     */
+    public List<UserDto> getUsersByIds(List<Long> userIds) {
+        Set<Long> ids = userIds.stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        if (ids.size() > maxBulkIds) {
+            throw new BadRequestException("At most " + maxBulkIds + " user ids can be requested at once");
+        }
+        log.debug("Resolving {} users", ids.size());
+
+        Map<Long, UserDto> found = users.getAll(ids, missingIds -> userRepository.findUserDtosByIdIn(List.copyOf(missingIds)).stream()
+                .collect(Collectors.toMap(UserDto::getId, Function.identity())));
+        return ids.stream()
+                .map(found::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    public void cacheUser(UserDto userDto) {
+        users.put(userDto.getId(), userDto);
+    }
+}
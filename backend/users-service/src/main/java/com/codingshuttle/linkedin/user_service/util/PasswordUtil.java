@@ -4,9 +4,9 @@ import org.mindrot.jbcrypt.BCrypt;
 
 public class PasswordUtil {
 
-    // hash password using BCrypt
-    public static String hashPassword(String password) {
-        return BCrypt.hashpw(password, BCrypt.gensalt());
+    // hash password using BCrypt with the given cost (log2 rounds)
+    public static String hashPassword(String password, int cost) {
+        return BCrypt.hashpw(password, BCrypt.gensalt(cost));
     }
 
     // verify password using BCrypt
@@ -14,4 +14,9 @@ public class PasswordUtil {
         return BCrypt.checkpw(password, hashedPassword);
     }
 
+    // read the cost encoded in a BCrypt hash, e.g. $2a$10$...
+    public static int getCost(String hashedPassword) {
+        return Integer.parseInt(hashedPassword.substring(4, 6));
+    }
+
 }
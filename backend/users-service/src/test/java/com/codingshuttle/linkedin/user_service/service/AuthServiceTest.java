@@ -0,0 +1,188 @@
+package com.codingshuttle.linkedin.user_service.service;
+
+import com.codingshuttle.linkedin.user_service.dto.LoginRequestDto;
+import com.codingshuttle.linkedin.user_service.dto.SignupRequestDto;
+import com.codingshuttle.linkedin.user_service.dto.UserDto;
+import com.codingshuttle.linkedin.user_service.entity.User;
+import com.codingshuttle.linkedin.user_service.exception.BadRequestException;
+import com.codingshuttle.linkedin.user_service.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.modelmapper.ModelMapper;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AuthServiceTest {
+
+    private static final String EMAIL = "user@example.com";
+    private static final String PASSWORD = "pass123";
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private UserRepository userRepository;
+    private PasswordHashingService passwordHashingService;
+    private EmailExistenceFilter emailExistenceFilter;
+    private JwtService jwtService;
+    private ThreadPoolExecutor authIoExecutor;
+    private AuthService authService;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        passwordHashingService = mock(PasswordHashingService.class);
+        emailExistenceFilter = mock(EmailExistenceFilter.class);
+        jwtService = mock(JwtService.class);
+        // One thread and one queue slot, like auth-io with auth.io.threads=1 and auth.io.queue-capacity=1
+        authIoExecutor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(1),
+                new ThreadPoolExecutor.AbortPolicy());
+        authService = new AuthService(new ModelMapper(), userRepository, jwtService, mock(OutboxService.class),
+                mock(TransactionTemplate.class), passwordHashingService, emailExistenceFilter,
+                mock(UserService.class), authIoExecutor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        authIoExecutor.shutdownNow();
+    }
+
+    @Test
+    void signupFailsWithRejectionWhenAuthIoIsSaturated() {
+        CompletableFuture<String> hash = new CompletableFuture<>();
+        when(passwordHashingService.hash(PASSWORD)).thenReturn(hash);
+        SignupRequestDto request = new SignupRequestDto();
+        request.setName("User");
+        request.setEmail(EMAIL);
+        request.setPassword(PASSWORD);
+
+        CompletableFuture<UserDto> signup = authService.signup(request);
+        saturateAuthIo();
+        completeOnBcryptThread(hash, "$2a$10$hash");
+
+        assertThat(signup).failsWithin(Duration.ofSeconds(5))
+                .withThrowableOfType(ExecutionException.class)
+                .withCauseInstanceOf(RejectedExecutionException.class);
+    }
+
+    @Test
+    void loginFailsWithRejectionWhenAuthIoIsSaturated() {
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(user("$2a$10$hash")));
+        CompletableFuture<Boolean> verify = new CompletableFuture<>();
+        when(passwordHashingService.verify(anyString(), anyString())).thenReturn(verify);
+
+        CompletableFuture<String> login = authService.login(loginRequest());
+        saturateAuthIo();
+        completeOnBcryptThread(verify, true);
+
+        assertThat(login).failsWithin(Duration.ofSeconds(5))
+                .withThrowableOfType(ExecutionException.class)
+                .withCauseInstanceOf(RejectedExecutionException.class);
+    }
+
+    @Test
+    void loginRehashesPasswordWithOutdatedCost() {
+        User user = user("$2a$08$outdated");
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(user));
+        when(passwordHashingService.verify(PASSWORD, "$2a$08$outdated")).thenReturn(CompletableFuture.completedFuture(true));
+        when(passwordHashingService.needsRehash("$2a$08$outdated")).thenReturn(true);
+        when(passwordHashingService.hash(PASSWORD)).thenReturn(CompletableFuture.completedFuture("$2a$10$current"));
+        when(jwtService.generateToken(user)).thenReturn("token");
+
+        assertThat(authService.login(loginRequest()).join()).isEqualTo("token");
+
+        verify(userRepository, timeout(5_000)).save(argThat(saved -> "$2a$10$current".equals(saved.getPassword())));
+    }
+
+    @Test
+    void loginKeepsPasswordWithCurrentCost() {
+        User user = user("$2a$10$current");
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(user));
+        when(passwordHashingService.verify(PASSWORD, "$2a$10$current")).thenReturn(CompletableFuture.completedFuture(true));
+        when(passwordHashingService.needsRehash("$2a$10$current")).thenReturn(false);
+        when(jwtService.generateToken(user)).thenReturn("token");
+
+        assertThat(authService.login(loginRequest()).join()).isEqualTo("token");
+
+        verify(passwordHashingService, never()).hash(anyString());
+        verify(userRepository, never()).save(any());
+    }
+
+    @Test
+    void loginSucceedsWhenRehashIsRejected() {
+        User user = user("$2a$08$outdated");
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(user));
+        when(passwordHashingService.verify(PASSWORD, "$2a$08$outdated")).thenReturn(CompletableFuture.completedFuture(true));
+        when(passwordHashingService.needsRehash("$2a$08$outdated")).thenReturn(true);
+        when(passwordHashingService.hash(PASSWORD)).thenThrow(new RejectedExecutionException("bcrypt saturated"));
+        when(jwtService.generateToken(user)).thenReturn("token");
+
+        assertThat(authService.login(loginRequest()).join()).isEqualTo("token");
+        assertThat(user.getPassword()).isEqualTo("$2a$08$outdated");
+    }
+
+    @Test
+    void loginFailsOnWrongPasswordWithoutRehashing() {
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(user("$2a$08$outdated")));
+        when(passwordHashingService.verify(PASSWORD, "$2a$08$outdated")).thenReturn(CompletableFuture.completedFuture(false));
+
+        assertThat(authService.login(loginRequest())).failsWithin(Duration.ofSeconds(5))
+                .withThrowableOfType(ExecutionException.class)
+                .withCauseInstanceOf(BadRequestException.class);
+        verify(passwordHashingService, never()).hash(anyString());
+    }
+
+    // Occupies the single auth-io thread and its queue slot until the test ends
+    private void saturateAuthIo() {
+        Runnable blocked = () -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        authIoExecutor.execute(blocked);
+        authIoExecutor.execute(blocked);
+    }
+
+    // Completes the BCrypt stage from another thread, as the bcrypt pool would
+    private static <T> void completeOnBcryptThread(CompletableFuture<T> stage, T value) {
+        Thread bcrypt = new Thread(() -> stage.complete(value), "bcrypt-test");
+        bcrypt.start();
+    }
+
+    private static User user(String hashedPassword) {
+        User user = new User();
+        user.setId(1L);
+        user.setName("User");
+        user.setEmail(EMAIL);
+        user.setPassword(hashedPassword);
+        return user;
+    }
+
+    private static LoginRequestDto loginRequest() {
+        LoginRequestDto request = new LoginRequestDto();
+        request.setEmail(EMAIL);
+        request.setPassword(PASSWORD);
+        return request;
+    }
+}
@@ -0,0 +1,133 @@
+package com.codingshuttle.linkedin.user_service.service;
+
+import com.codingshuttle.linkedin.user_service.dto.LoginRequestDto;
+import com.codingshuttle.linkedin.user_service.dto.SignupRequestDto;
+import com.codingshuttle.linkedin.user_service.dto.UserDto;
+import com.codingshuttle.linkedin.user_service.entity.User;
+import com.codingshuttle.linkedin.user_service.repository.UserRepository;
+import com.codingshuttle.linkedin.user_service.util.PasswordUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Login and signup throughput with 16 concurrent request threads, repositories mocked so that BCrypt
+ * dominates:
+ * <ul>
+ *     <li>{@code loginOnRequestThread}: what login did before, BCrypt verify on the request thread;</li>
+ *     <li>{@code login}/{@code signup}: {@link AuthService} with BCrypt on the bcrypt pool and the
+ *     follow-up work on auth-io, the request thread waiting on the future.</li>
+ * </ul>
+ * Run with {@code mvn -Pbenchmark test-compile exec:exec -Dbenchmark.include=AuthThroughput}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(16)
+@Fork(1)
+public class AuthThroughputBenchmark {
+
+    private static final String EMAIL = "user@example.com";
+    private static final String PASSWORD = "pass123";
+
+    @Param("10")
+    public int cost;
+
+    private PasswordHashingService passwordHashingService;
+    private ThreadPoolExecutor authIoExecutor;
+    private JwtService jwtService;
+    private AuthService authService;
+    private User user;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        passwordHashingService = new PasswordHashingService(cost, 0, 100, new SimpleMeterRegistry());
+        authIoExecutor = new ThreadPoolExecutor(10, 10, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(200),
+                new ThreadPoolExecutor.AbortPolicy());
+        jwtService = new JwtService();
+        ReflectionTestUtils.setField(jwtService, "jwtSecreteKey",
+                "kljahgkh-iahgashg-asfgadgh-ahasfh-adhafdh-adhadhadhkhasgkhaskgh");
+
+        user = new User();
+        user.setId(1L);
+        user.setName("User");
+        user.setEmail(EMAIL);
+        user.setPassword(PasswordUtil.hashPassword(PASSWORD, cost));
+
+        UserRepository userRepository = mock(UserRepository.class);
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(user));
+        when(userRepository.save(any(User.class))).thenAnswer(invocation -> {
+            User saved = invocation.getArgument(0);
+            saved.setId(2L);
+            return saved;
+        });
+        TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<Object>>getArgument(0).doInTransaction(null));
+        EmailExistenceFilter emailExistenceFilter = mock(EmailExistenceFilter.class);
+        when(emailExistenceFilter.isRegistered(anyString())).thenReturn(false);
+
+        authService = new AuthService(new ModelMapper(), userRepository, jwtService, mock(OutboxService.class),
+                transactionTemplate, passwordHashingService, emailExistenceFilter, mock(UserService.class),
+                authIoExecutor);
+    }
+
+    @TearDown
+    public void tearDown() {
+        passwordHashingService.shutdown();
+        authIoExecutor.shutdown();
+    }
+
+    @Benchmark
+    public String loginOnRequestThread() {
+        if (!PasswordUtil.verifyPassword(PASSWORD, user.getPassword())) {
+            throw new IllegalStateException("Invalid credentials");
+        }
+        return jwtService.generateToken(user);
+    }
+
+    @Benchmark
+    public String login() {
+        LoginRequestDto request = new LoginRequestDto();
+        request.setEmail(EMAIL);
+        request.setPassword(PASSWORD);
+        return authService.login(request).join();
+    }
+
+    @Benchmark
+    public UserDto signup() {
+        SignupRequestDto request = new SignupRequestDto();
+        request.setName("User");
+        request.setEmail("new-user@example.com");
+        request.setPassword(PASSWORD);
+        return authService.signup(request).join();
+    }
+}
@@ -0,0 +1,69 @@
+package com.codingshuttle.linkedin.user_service.service;
+
+import com.codingshuttle.linkedin.user_service.util.PasswordUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PasswordHashingServiceTest {
+
+    // Lowest cost BCrypt accepts, to keep the tests fast
+    private static final int COST = 4;
+
+    private PasswordHashingService passwordHashingService;
+
+    @AfterEach
+    void tearDown() {
+        passwordHashingService.shutdown();
+    }
+
+    @Test
+    void hashesWithConfiguredCostAndVerifies() {
+        passwordHashingService = new PasswordHashingService(COST, 2, 10, new SimpleMeterRegistry());
+
+        String hashedPassword = passwordHashingService.hash("pass123").join();
+
+        assertThat(PasswordUtil.getCost(hashedPassword)).isEqualTo(COST);
+        assertThat(passwordHashingService.verify("pass123", hashedPassword).join()).isTrue();
+        assertThat(passwordHashingService.verify("wrong", hashedPassword).join()).isFalse();
+    }
+
+    @Test
+    void needsRehashOnlyForOtherCost() {
+        passwordHashingService = new PasswordHashingService(COST, 1, 10, new SimpleMeterRegistry());
+
+        assertThat(passwordHashingService.needsRehash(PasswordUtil.hashPassword("pass123", COST))).isFalse();
+        assertThat(passwordHashingService.needsRehash(PasswordUtil.hashPassword("pass123", COST + 1))).isTrue();
+    }
+
+    @Test
+    void rejectsWhenQueueIsFull() {
+        // One thread and one queue slot; at cost 12 the first hash keeps the thread busy while the next two arrive
+        passwordHashingService = new PasswordHashingService(12, 1, 1, new SimpleMeterRegistry());
+
+        passwordHashingService.hash("first");
+        passwordHashingService.hash("second");
+
+        assertThatThrownBy(() -> passwordHashingService.hash("third"))
+                .isInstanceOf(RejectedExecutionException.class);
+    }
+
+    @Test
+    void hashAllKeepsOrderAndHashesEveryPassword() {
+        passwordHashingService = new PasswordHashingService(COST, 2, 1, new SimpleMeterRegistry());
+        List<String> passwords = List.of("a", "b", "c", "d", "e");
+
+        List<String> hashedPasswords = passwordHashingService.hashAll(passwords);
+
+        assertThat(hashedPasswords).hasSize(passwords.size());
+        for (int i = 0; i < passwords.size(); i++) {
+            assertThat(PasswordUtil.verifyPassword(passwords.get(i), hashedPasswords.get(i))).isTrue();
+        }
+    }
+}
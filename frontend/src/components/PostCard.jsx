@@ -1,17 +1,14 @@
 import { useState } from 'react';
 import { ThumbsUp, MessageCircle } from 'lucide-react';
 import { postsService } from '../services/postsService';
-import { useAuth } from '../context/AuthContext';
 import toast from 'react-hot-toast';
 
 const PostCard = ({ post }) => {
-  const { user } = useAuth();
-  
-  // Check if current user has liked this post by checking if their ID is in the likedByUserIds array
-  const isLikedByCurrentUser = post.likedByUserIds?.includes(user?.id) || false;
+  // likedByCurrentUser is filled in by postsService from the /likes/status bitmap
+  const isLikedByCurrentUser = post.likedByCurrentUser || false;
   
   const [liked, setLiked] = useState(isLikedByCurrentUser);
-  const [likesCount, setLikesCount] = useState(post.likedByUserIds?.length || 0);
+  const [likesCount, setLikesCount] = useState(post.likeCount || 0);
 
   const handleLike = async () => {
     try {
@@ -1,5 +1,14 @@
 import api from './api';
 
+// Matches posts.likes.status-max-ids on the backend
+const LIKE_STATUS_BATCH_SIZE = 500;
+
+// Bit i of the base64 bitmap is set when the i-th requested post is liked
+const decodeLikeStatus = (postIds, { liked }) => {
+  const bytes = atob(liked || '');
+  return postIds.map((_, i) => i >> 3 < bytes.length && ((bytes.charCodeAt(i >> 3) >> (i & 7)) & 1) === 1);
+};
+
 export const postsService = {
   async createPost(postData) {
     const response = await api.post('/posts/core', postData);
@@ -9,7 +18,19 @@ export const postsService = {
   async getAllPosts() {
     // Correct endpoint: /posts/core/users/allPosts
     const response = await api.get('/posts/core/users/allPosts');
-    return response.data;
+    const posts = response.data;
+    const liked = await postsService.getLikeStatus(posts.map(post => post.id));
+    return posts.map((post, i) => ({ ...post, likedByCurrentUser: liked[i] }));
+  },
+
+  async getLikeStatus(postIds) {
+    const liked = [];
+    for (let from = 0; from < postIds.length; from += LIKE_STATUS_BATCH_SIZE) {
+      const batch = postIds.slice(from, from + LIKE_STATUS_BATCH_SIZE);
+      const response = await api.post('/posts/likes/status', batch);
+      liked.push(...decodeLikeStatus(batch, response.data));
+    }
+    return liked;
   },
 
   async likePost(postId) {